@@ -0,0 +1,348 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.benchmark;
+
+import io.github.snoopy137.languagemanager.utils.CompiledBundle;
+import io.github.snoopy137.languagemanager.utils.Language;
+import io.github.snoopy137.languagemanager.utils.LocaleSwitchProfiler;
+import io.github.snoopy137.languagemanager.utils.LocaleSwitchReport;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * Headless end-to-end benchmark measuring how a locale switch propagates
+ * through a large synthetic scene.
+ * <p>
+ * The benchmark starts JavaFX on the Monocle headless platform, builds a scene
+ * with a configurable number of labels, combo boxes, list views, tree views
+ * and tabs, binds every control through the regular binder dispatch, and then
+ * alternates between two synthetic locales. For each run it reports the switch
+ * latency (split by {@link LocaleSwitchProfiler}), the bytes allocated on the
+ * FX thread during the switch, and the heap retained per bound control.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:java}. The scene size is
+ * configured through system properties, e.g.
+ * {@code -Dbench.labels=5000 -Dbench.comboBoxes=200 -Dbench.listViews=50
+ * -Dbench.treeViews=50 -Dbench.tabs=100 -Dbench.items=10 -Dbench.iterations=30}.
+ * Monocle 21 needs a Java 21 runtime, like JavaFX 22 itself. Text layout
+ * still uses the native font stack, so the machine needs the Pango, FreeType
+ * and fontconfig libraries JavaFX depends on, but no display. Where they are
+ * missing, {@code -Dbench.layout=false} skips showing the scene and the CSS
+ * and layout passes. Label and tab texts are then read right after each
+ * switch instead, since nothing else evaluates their lazy bindings; that time
+ * is counted in the latency but not attributed to a binder.
+ * </p>
+ *
+ * <p>
+ * Controls are bound with {@link Language#autoBindField(Object, String)},
+ * since the scene is sized at runtime and has no controller fields for
+ * {@link Language#autoBind(Object)} to reflect over. Both go through the same
+ * binder dispatch. Logging is limited to warnings by the benchmark's
+ * {@code logback-test.xml}, as the DEBUG output of every lookup would
+ * otherwise dominate the measurement.
+ * </p>
+ *
+ * @author alan
+ */
+public final class LocaleSwitchBenchmark {
+
+    private static final Locale ENGLISH = Locale.ENGLISH;
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+    private final int labels = Integer.getInteger("bench.labels", 2000);
+    private final int comboBoxes = Integer.getInteger("bench.comboBoxes", 100);
+    private final int listViews = Integer.getInteger("bench.listViews", 20);
+    private final int treeViews = Integer.getInteger("bench.treeViews", 20);
+    private final int tabs = Integer.getInteger("bench.tabs", 50);
+    private final int items = Integer.getInteger("bench.items", 10);
+    private final int warmup = Integer.getInteger("bench.warmup", 10);
+    private final int iterations = Integer.getInteger("bench.iterations", 30);
+    private final boolean layout = Boolean.parseBoolean(System.getProperty("bench.layout", "true"));
+
+    private LocaleSwitchBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        Platform.startup(() -> started.complete(null));
+        started.get(30, TimeUnit.SECONDS);
+        try {
+            new LocaleSwitchBenchmark().run();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) System.setProperty(key, value);
+    }
+
+    private void run() throws Exception {
+        registerBundles();
+        Language.setLocale(ENGLISH);
+
+        System.out.printf("Scene: %d labels, %d combo boxes, %d list views, %d tree views, %d tabs, %d items per list%n",
+                labels, comboBoxes, listViews, treeViews, tabs, items);
+        if (!layout) System.out.println("CSS and layout: skipped (bench.layout=false)");
+
+        long heapBefore = onFx(() -> {
+            scene = buildScene();
+            return usedHeap();
+        });
+        long heapAfter = onFx(() -> {
+            bindAll();
+            return usedHeap();
+        });
+        int bound = labels + comboBoxes + listViews + treeViews + tabs;
+        System.out.printf("Retained heap per bound control: %.1f bytes (%d controls)%n",
+                (heapAfter - heapBefore) / (double) bound, bound);
+
+        for (int i = 0; i < warmup; i++) {
+            Locale target = i % 2 == 0 ? SPANISH : ENGLISH;
+            onFx(() -> switchOnce(target));
+        }
+
+        long[] latencies = new long[iterations];
+        long[] allocations = new long[iterations];
+        LocaleSwitchReport last = null;
+        long[] textReads = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            Locale target = i % 2 == 0 ? SPANISH : ENGLISH;
+            Result result = onFx(() -> switchOnce(target));
+            latencies[i] = result.report.getTotalNanos() + result.textReads;
+            textReads[i] = result.textReads;
+            allocations[i] = result.allocated;
+            last = result.report;
+        }
+        Arrays.sort(latencies);
+        Arrays.sort(allocations);
+        Arrays.sort(textReads);
+        System.out.printf("Switch latency: p50 %.2f ms, p90 %.2f ms, max %.2f ms%n",
+                millis(latencies[iterations / 2]), millis(latencies[(int) (iterations * 0.9)]), millis(latencies[iterations - 1]));
+        System.out.printf("Allocated per switch: p50 %d KB (%.1f bytes per bound control)%n",
+                allocations[iterations / 2] / 1024, allocations[iterations / 2] / (double) bound);
+        if (!layout) {
+            System.out.printf("Label and tab text reads after the switch: p50 %.2f ms (included in the latency,"
+                    + " not in the binder costs below)%n", millis(textReads[iterations / 2]));
+        }
+        System.out.println();
+        System.out.println(last);
+    }
+
+    private Scene scene;
+
+    private final List<Label> labelNodes = new ArrayList<>();
+    private final List<Tab> tabNodes = new ArrayList<>();
+
+    private record Result(LocaleSwitchReport report, long textReads, long allocated) {
+    }
+
+    private Result switchOnce(Locale target) {
+        long allocatedBefore = allocatedBytes();
+        Parent[] roots = layout ? new Parent[]{scene.getRoot()} : new Parent[0];
+        LocaleSwitchReport report = LocaleSwitchProfiler.profile(target, roots);
+        long textReads = 0;
+        if (!layout) {
+            // Without CSS and layout nothing reads the texts, so their lazy bindings would never be evaluated
+            long start = System.nanoTime();
+            for (Label label : labelNodes) label.getText();
+            for (Tab tab : tabNodes) tab.getText();
+            textReads = System.nanoTime() - start;
+        }
+        return new Result(report, textReads, allocatedBytes() - allocatedBefore);
+    }
+
+    private Scene buildScene() {
+        FlowPane flow = new FlowPane();
+        for (int i = 0; i < labels; i++) {
+            Label label = new Label("label" + i);
+            label.setId("label" + i);
+            labelNodes.add(label);
+            flow.getChildren().add(label);
+        }
+        for (int i = 0; i < comboBoxes; i++) {
+            ComboBox<String> comboBox = new ComboBox<>();
+            comboBox.setId("combo" + i);
+            comboBox.getItems().addAll(itemValues());
+            flow.getChildren().add(comboBox);
+        }
+        for (int i = 0; i < listViews; i++) {
+            ListView<String> listView = new ListView<>();
+            listView.setId("list" + i);
+            listView.setPrefHeight(120);
+            listView.getItems().addAll(itemValues());
+            flow.getChildren().add(listView);
+        }
+        for (int i = 0; i < treeViews; i++) {
+            TreeItem<String> root = new TreeItem<>("root");
+            root.setExpanded(true);
+            for (String value : itemValues()) {
+                root.getChildren().add(new TreeItem<>(value));
+            }
+            TreeView<String> treeView = new TreeView<>(root);
+            treeView.setId("tree" + i);
+            treeView.setPrefHeight(120);
+            flow.getChildren().add(treeView);
+        }
+        TabPane tabPane = new TabPane();
+        for (int i = 0; i < tabs; i++) {
+            Tab tab = new Tab("tab" + i, new Label("content"));
+            tab.setId("tab" + i);
+            tabNodes.add(tab);
+            tabPane.getTabs().add(tab);
+        }
+        VBox root = new VBox(tabPane, new ScrollPane(flow));
+        Scene newScene = new Scene(root, 1280, 800);
+        if (layout) {
+            Stage stage = new Stage();
+            stage.setScene(newScene);
+            stage.show();
+            root.applyCss();
+            root.layout();
+        }
+        return newScene;
+    }
+
+    private void bindAll() {
+        List<Node> nodes = new ArrayList<>(((FlowPane) ((ScrollPane) ((VBox) scene.getRoot()).getChildren().get(1)).getContent()).getChildren());
+        for (Node node : nodes) {
+            Language.autoBindField(node, node.getId());
+        }
+        TabPane tabPane = (TabPane) ((VBox) scene.getRoot()).getChildren().get(0);
+        for (Tab tab : tabPane.getTabs()) {
+            Language.autoBindField(tab, tab.getId());
+        }
+    }
+
+    private List<String> itemValues() {
+        List<String> values = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            values.add("item" + i);
+        }
+        return values;
+    }
+
+    /**
+     * Registers two synthetic locales covering every key used by the scene.
+     */
+    private void registerBundles() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < labels; i++) keys.add("label" + i);
+        addIndexed(keys, "combo", comboBoxes, items);
+        addIndexed(keys, "list", listViews, items);
+        for (int i = 0; i < treeViews; i++) {
+            keys.add("tree" + i + ".0");
+            for (int j = 0; j < items; j++) keys.add("tree" + i + ".0." + j);
+            // TreeItemBinder also binds the inner children of the root to the top-level keys
+            for (int j = 1; j < items - 1; j++) keys.add("tree" + i + "." + j);
+        }
+        for (int i = 0; i < tabs; i++) {
+            keys.add("tab" + i);
+            keys.add("tab" + i + ".tooltip");
+        }
+        String[] keyArray = keys.toArray(String[]::new);
+        String[] english = new String[keyArray.length];
+        String[] spanish = new String[keyArray.length];
+        for (int i = 0; i < keyArray.length; i++) {
+            english[i] = "English text for " + keyArray[i];
+            spanish[i] = "Texto en español para " + keyArray[i];
+        }
+        Language.setBaseName("bench");
+        Language.registerCompiledBundles(
+                new CompiledBundle("bench", "", keyArray, english) {
+                },
+                new CompiledBundle("bench", "es", keyArray, spanish) {
+                });
+    }
+
+    private static void addIndexed(List<String> keys, String prefix, int controls, int items) {
+        for (int i = 0; i < controls; i++) {
+            keys.add(prefix + i);
+            for (int j = 0; j < items; j++) keys.add(prefix + i + "." + j);
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private interface FxTask<T> {
+
+        T call() throws Exception;
+    }
+
+    private static <T> T onFx(FxTask<T> task) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result.get(10, TimeUnit.MINUTES);
+    }
+}
@@ -64,7 +64,7 @@ public class CheckBoxBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof CheckBox checkBox) {
             log.debug("Binding text property of CheckBox to key '{}'", key);
-            checkBox.textProperty().bind(Language.bind(key, checkBox.getText()));
+            Language.bindProperty(checkBox.textProperty(), Language.bind(key, checkBox.getText()));
         }
     }
 }
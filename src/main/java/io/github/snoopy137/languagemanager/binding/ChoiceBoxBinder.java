@@ -41,7 +41,12 @@ import lombok.extern.slf4j.Slf4j;
  * <strong>Example:</strong><br>
  * For a {@code ChoiceBox<String>} field named {@code genderBox} with 2 items,
  * the expected keys in the resource bundle are
- * {@code genderBox.0}, {@code genderBox.1}, etc.
+ * {@code genderBox.0}, {@code genderBox.1}, etc. An empty ChoiceBox
+ * marked with {@link Language#populateFromKeys(javafx.scene.Node)} is
+ * populated with one item per {@code genderBox.*} key in the bundle. Enum
+ * items, and items given keys with {@link Language#setItemKeys}, are rendered
+ * through a {@link LocalizedStringConverter} instead, e.g.
+ * {@code genderBox.MALE}, unless the application set a converter of its own.
  * </p>
  *
  * <p>
@@ -55,7 +60,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ChoiceBoxBinder implements ControlBinder {
 
     /**
-     * Checks if the given control is a {@code ChoiceBox<String>}.
+     * Checks if the given control is a {@code ChoiceBox<String>}, or a
+     * {@code ChoiceBox} whose items are rendered through a converter.
      *
      * @param control the UI control to check
      * @return {@code true} if the control is a
@@ -63,9 +69,10 @@ public class ChoiceBoxBinder implements ControlBinder {
      */
     @Override
     public boolean supports(Object control) {
-        return control instanceof ChoiceBox<?>
-                && !((ChoiceBox<?>) control).getItems().isEmpty()
-                && ((ChoiceBox<?>) control).getItems().get(0) instanceof String;
+        return control instanceof ChoiceBox<?> choiceBox
+                && (LocalizedStringConverter.rendersItems(choiceBox, choiceBox.getItems())
+                || (choiceBox.getItems().isEmpty() ? Language.isPopulatedFromKeys(choiceBox)
+                : choiceBox.getItems().get(0) instanceof String));
     }
 
     /**
@@ -79,21 +86,41 @@ public class ChoiceBoxBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof ChoiceBox<?> choiceBox) {
             @SuppressWarnings("unchecked")
-            ChoiceBox<String> stringChoiceBox = (ChoiceBox<String>) choiceBox;
-            ObservableValue binding = Language.bind(key, (String) choiceBox.getValue());
-            choiceBox.valueProperty().bind(binding);
-            for (int i = 0; i < stringChoiceBox.getItems().size(); i++) {
-                final int index = i;
-                String original = stringChoiceBox.getItems().get(index);
-                String itemKey = key + "." + index;
-
-                Language.bundleProperty().addListener((obs, oldVal, newVal) -> {
-                    log.debug("Binding ChoiceBox item {} with key '{}'", index, itemKey);
-                    stringChoiceBox.getItems().set(index, newVal.getString(itemKey));
+            ChoiceBox<Object> objectChoiceBox = (ChoiceBox<Object>) choiceBox;
+            LocalizedStringConverter<Object> converter = LocalizedStringConverter.forControl(choiceBox, objectChoiceBox.getItems(), key);
+            if (converter != null) {
+                if (objectChoiceBox.getConverter() != null) {
+                    log.debug("ChoiceBox of key '{}' has its own converter, leaving its items as they are", key);
+                    return;
+                }
+                objectChoiceBox.setConverter(converter);
+                // The skin only re-renders its labels when the converter changes
+                Language.addBundleListener((obs, oldVal, newVal) -> {
+                    if (objectChoiceBox.getConverter() instanceof LocalizedStringConverter<Object> current) {
+                        objectChoiceBox.setConverter(current.renew());
+                    }
                 });
-
-                stringChoiceBox.getItems().set(index, Language.get(itemKey, original));
+                log.debug("Rendering ChoiceBox items of key '{}' through a converter", key);
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            ChoiceBox<String> stringChoiceBox = (ChoiceBox<String>) choiceBox;
+            TranslatedItems items;
+            if (stringChoiceBox.getItems().isEmpty() && Language.isPopulatedFromKeys(stringChoiceBox)) {
+                // Items taken from the bundle are chosen by the user, so keep the choice
+                items = new TranslatedItems(stringChoiceBox, stringChoiceBox.getItems(),
+                        stringChoiceBox.getSelectionModel(), key);
+            } else {
+                ObservableValue binding = Language.bind(key, (String) choiceBox.getValue());
+                Language.bindProperty(choiceBox.valueProperty(), binding);
+                // The value is bound, so the selection is not restored by index
+                items = new TranslatedItems(stringChoiceBox, stringChoiceBox.getItems(), null, key);
             }
+            Language.addBundleListener((obs, oldVal, newVal) -> {
+                log.debug("Updating ChoiceBox items of key '{}'", key);
+                items.update();
+            });
+            items.update();
         }
     }
 }
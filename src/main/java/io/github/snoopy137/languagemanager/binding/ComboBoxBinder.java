@@ -36,7 +36,17 @@ import lombok.extern.slf4j.Slf4j;
  * </p>
  * <p>
  * For example, a ComboBox with three items and a prefix {@code gender} will
- * expect keys {@code gender.0}, {@code gender.1}, {@code gender.2}.
+ * expect keys {@code gender.0}, {@code gender.1}, {@code gender.2}. An empty
+ * ComboBox marked with
+ * {@link Language#populateFromKeys(javafx.scene.Node)} is populated with one
+ * item per {@code gender.*} key in the bundle.
+ * </p>
+ * <p>
+ * Enum items, and domain objects given keys with
+ * {@link Language#setItemKeys(javafx.scene.Node, java.util.function.Function)},
+ * are kept as they are and rendered through a
+ * {@link LocalizedStringConverter}, e.g. {@code gender.MALE}. A converter,
+ * cell factory or button cell set by the application is left in place.
  * </p>
  *
  * @author alan
@@ -62,7 +72,12 @@ public class ComboBoxBinder implements ControlBinder {
      * to a language key.
      * <p>
      * Items will be bound using the provided prefix and an index. The original
-     * values will be replaced with the translated ones.
+     * values will be replaced with the translated ones, in one change per
+     * locale switch, and kept sorted if the combo box was marked with
+     * {@link Language#sortByCollation(javafx.scene.Node)}. If the combo box
+     * has no items and was marked with
+     * {@link Language#populateFromKeys(javafx.scene.Node)}, the items are the translations of the child keys of
+     * {@code key} (see {@link Language#childKeys(String)}).
      * </p>
      *
      * @param control the control to bind
@@ -72,23 +87,32 @@ public class ComboBoxBinder implements ControlBinder {
     @Override
     public void bind(Object control, String key) {
         if (control instanceof ComboBox<?> comboBox) {
-            if (!comboBox.getItems().isEmpty() && comboBox.getItems().get(0) instanceof String) {
+            @SuppressWarnings("unchecked")
+            ComboBox<Object> objectComboBox = (ComboBox<Object>) comboBox;
+            LocalizedStringConverter<Object> converter = LocalizedStringConverter.forControl(comboBox, objectComboBox.getItems(), key);
+            if (converter != null) {
+                Language.bindProperty(comboBox.promptTextProperty(), Language.bind(key, comboBox.getPromptText()));
+                // Only replace what the application left at its default
+                if (objectComboBox.getConverter() == null || objectComboBox.getConverter().getClass().getEnclosingClass() == ComboBox.class) {
+                    objectComboBox.setConverter(converter);
+                }
+                if (objectComboBox.getCellFactory() == null) objectComboBox.setCellFactory(converter.cellFactory());
+                if (objectComboBox.getButtonCell() == null) objectComboBox.setButtonCell(converter.createCell());
+                log.debug("Rendering ComboBox items of key '{}' through a converter", key);
+            } else if (comboBox.getItems().isEmpty() ? Language.isPopulatedFromKeys(comboBox)
+                    : comboBox.getItems().get(0) instanceof String) {
                 @SuppressWarnings("unchecked")
                 ComboBox<String> stringComboBox = (ComboBox<String>) comboBox;
-                comboBox.promptTextProperty().bind(Language.bind(key, comboBox.getPromptText()));
-                for (int i = 0; i < stringComboBox.getItems().size(); i++) {
-                    final int index = i; // effectively final copy
-                    String original = stringComboBox.getItems().get(i);
-                    String itemKey = key + "." + i;
-
-                    Language.bundleProperty().addListener((obs, oldVal, newVal) -> {
-                        log.debug("Binding ComboBox item {} with key '{}'", index, itemKey);
-                        stringComboBox.getItems().set(index, newVal.getString(itemKey));
-                    });
-                    stringComboBox.getItems().set(i, Language.get(itemKey, original));
-                }
+                Language.bindProperty(comboBox.promptTextProperty(), Language.bind(key, comboBox.getPromptText()));
+                TranslatedItems items = new TranslatedItems(stringComboBox, stringComboBox.getItems(),
+                        stringComboBox.getSelectionModel(), key);
+                Language.addBundleListener((obs, oldVal, newVal) -> {
+                    log.debug("Updating ComboBox items of key '{}'", key);
+                    items.update();
+                });
+                items.update();
             } else {
-                log.warn("ComboBox items must be Strings to support language binding. Skipping binding for key '{}'", key);
+                log.warn("ComboBox items must be Strings or enums, or have item keys set, to support language binding. Skipping binding for key '{}'", key);
             }
         }
     }
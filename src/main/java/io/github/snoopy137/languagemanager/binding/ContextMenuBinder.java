@@ -63,7 +63,9 @@ public class ContextMenuBinder implements ControlBinder {
 
     /**
      * Binds the {@code textProperty} of all {@link MenuItem}s inside the
-     * {@link ContextMenu} to language keys based on their IDs.
+     * {@link ContextMenu} to language keys based on their IDs. When
+     * {@link Language#setDeferHiddenContent(boolean) deferred translation} is
+     * enabled, the items are only updated while the context menu is showing.
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -78,7 +80,7 @@ public class ContextMenuBinder implements ControlBinder {
                 if (item.getId() != null && !item.getId().isEmpty()) {
                     String fullKey = key + "." + item.getId();
                     log.debug("Binding MenuItem id='{}' to key='{}'", item.getId(), fullKey);
-                    item.textProperty().bind(Language.bind(fullKey, item.getText()));
+                    Language.bindProperty(item.textProperty(), Language.bindDeferred(fullKey, item.getText(), contextMenu.showingProperty()));
                 } else {
                     log.warn("MenuItem without ID found in ContextMenu. Skipping binding.");
                 }
@@ -66,7 +66,7 @@ public class HyperlinkBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof Hyperlink hyperlink) {
             log.debug("Binding text property of Hyperlink to key '{}'", key);
-            hyperlink.textProperty().bind(Language.bind(key, hyperlink.getText()));
+            Language.bindProperty(hyperlink.textProperty(), Language.bind(key, hyperlink.getText()));
         }
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.binding;
+
+import io.github.snoopy137.languagemanager.utils.ImageCache;
+import io.github.snoopy137.languagemanager.utils.Language;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binds the {@code imageProperty} of {@link ImageView} nodes to language keys.
+ * <p>
+ * The bundle value of the key is the image URL, or a classpath path, for the
+ * current locale (e.g. {@code flag=images/flag_es.png}). Images are loaded in
+ * the background and shared through the {@link ImageCache}, so image views
+ * bound to the same key share one decoded image. If the key is missing, the
+ * image the view already shows is kept.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public class ImageViewBinder implements ControlBinder {
+
+    /**
+     * Returns {@code true} if the control is an {@link ImageView}.
+     *
+     * @param control the control to check
+     * @return {@code true} if the control is an ImageView, otherwise
+     * {@code false}
+     */
+    @Override
+    public boolean supports(Object control) {
+        return control instanceof ImageView;
+    }
+
+    /**
+     * Binds the {@code imageProperty} of the {@link ImageView} to the image
+     * URL held by the language key. The image set by the application is kept
+     * while the key is missing, points to that same image, or cannot be
+     * loaded, and when no bundle is available nothing is bound.
+     *
+     * @param control the control to bind
+     * @param key the language key whose value is the localized image URL
+     */
+    @Override
+    public void bind(Object control, String key) {
+        if (control instanceof ImageView imageView) {
+            if (Language.getBundle() == null) {
+                log.warn("No resource bundle loaded. Skipping image binding for key '{}'", key);
+                return;
+            }
+            log.debug("Binding image property of ImageView to key '{}'", key);
+            Image original = imageView.getImage();
+            String fallback = original != null ? original.getUrl() : null;
+            StringBinding url = Language.bind(key, fallback);
+            Language.bindProperty(imageView.imageProperty(), Bindings.createObjectBinding(() -> {
+                String value = url.get();
+                if (value == null || value.equals(fallback)) return original;
+                Image image = ImageCache.get(value);
+                return image != null ? image : original;
+            }, url));
+        }
+    }
+}
@@ -59,7 +59,10 @@ public class LabeledBinder implements ControlBinder {
      * given language key.
      * <p>
      * If the key is not present in the language bundle, the current text of the
-     * control will be used as the default.
+     * control will be used as the default. When
+     * {@link Language#setDeferHiddenContent(boolean) deferred translation} is
+     * enabled, the text is only updated while the control is not inside hidden
+     * tab or titled pane content.
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -69,6 +72,6 @@ public class LabeledBinder implements ControlBinder {
     public void bind(Object control, String key) {
         Labeled labeled = (Labeled) control;
         log.debug("Binding text property of Labeled control to key '{}'", key);
-        labeled.textProperty().bind(Language.bind(key, labeled.getText()));
+        Language.bindProperty(labeled.textProperty(), Language.bindDeferred(key, labeled.getText(), labeled));
     }
 }
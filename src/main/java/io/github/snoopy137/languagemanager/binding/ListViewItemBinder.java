@@ -32,8 +32,14 @@ public class ListViewItemBinder implements ControlBinder {
     }
 
     /**
-     * Binds the first item in the {@link ListView} to the specified language
-     * key. This method assumes the items are Strings.
+     * Binds the items in the {@link ListView} to the keys {@code key.0},
+     * {@code key.1}, ... This method assumes the items are Strings. An empty
+     * ListView marked with
+     * {@link Language#populateFromKeys(javafx.scene.Node)} is populated with the translations of the child keys of
+     * {@code key} (see {@link Language#childKeys(String)}). Enum items, and
+     * items given keys with {@link Language#setItemKeys}, are rendered
+     * through a {@link LocalizedStringConverter} instead, unless the
+     * application set a cell factory of its own.
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -43,20 +49,26 @@ public class ListViewItemBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof ListView<?> listView) {
             ObservableList<?> items = listView.getItems();
-            if (!items.isEmpty() && items.get(0) instanceof String) {
+            @SuppressWarnings("unchecked")
+            ListView<Object> objectListView = (ListView<Object>) listView;
+            LocalizedStringConverter<Object> converter = LocalizedStringConverter.forControl(listView, objectListView.getItems(), key);
+            if (converter != null) {
+                if (objectListView.getCellFactory() != null) {
+                    log.debug("ListView of key '{}' has its own cell factory, leaving its items as they are", key);
+                    return;
+                }
+                objectListView.setCellFactory(converter.cellFactory());
+                log.debug("Rendering ListView items of key '{}' through a converter", key);
+            } else if (items.isEmpty() ? Language.isPopulatedFromKeys(listView) : items.get(0) instanceof String) {
                 @SuppressWarnings("unchecked")
                 ListView<String> stringListView = (ListView<String>) listView;
-                for (int i = 0; i < listView.getItems().size(); i++) {
-                    final int index = i;
-                    String original = stringListView.getItems().get(i);
-                    Language.bundleProperty().addListener((obs, oldVal, newVal) -> {
-                        stringListView.getItems().set(index, newVal.getString(key + "." + index)); // example: bind just the first item
-                    });
-                    stringListView.getItems().set(index, Language.get(key + "." + index, original));
-                }
-                log.debug("Bound first ListView item to key '{}'", key);
+                TranslatedItems translated = new TranslatedItems(stringListView, stringListView.getItems(),
+                        stringListView.getSelectionModel(), key);
+                Language.addBundleListener((obs, oldVal, newVal) -> translated.update());
+                translated.update();
+                log.debug("Bound ListView items to key '{}'", key);
             } else {
-                log.warn("ListView items must be Strings to support language binding. Skipping binding for key '{}'", key);
+                log.warn("ListView items must be Strings or enums, or have item keys set, to support language binding. Skipping binding for key '{}'", key);
             }
         }
     }
@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.binding;
+
+import io.github.snoopy137.languagemanager.utils.Language;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import javafx.beans.binding.Bindings;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.util.Callback;
+import javafx.util.StringConverter;
+
+/**
+ * Renders enum constants or domain objects with their translation, without
+ * replacing them in the list that holds them.
+ * <p>
+ * Each item is mapped to a language key, e.g. {@code gender.MALE} for an enum
+ * constant of a control bound to {@code gender}, and its label is looked up
+ * once per bundle and cached, so a locale switch only re-renders the visible
+ * cells. The items, their selection and their equality are never touched.
+ * Use it as the converter of a {@code ComboBox} or {@code ChoiceBox}, or
+ * through {@link #cellFactory()} on any list control.
+ * </p>
+ * <p>
+ * Labels are cached per resident bundle, so switching back to a locale finds
+ * them ready; entries changed by a patch show up after the next locale
+ * switch. Must be used on the JavaFX application thread.
+ * </p>
+ *
+ * @param <T> the type of the items
+ * @author alan
+ * @since 1.2.0
+ */
+public final class LocalizedStringConverter<T> extends StringConverter<T> {
+
+    private final Function<? super T, String> keyOf;
+    private final Map<ResourceBundle, Map<T, String>> labels;
+
+    /**
+     * Creates a converter looking up the key returned for each item.
+     *
+     * @param keyOf returns the language key of an item
+     */
+    public LocalizedStringConverter(Function<? super T, String> keyOf) {
+        this(Objects.requireNonNull(keyOf), new WeakHashMap<>());
+    }
+
+    private LocalizedStringConverter(Function<? super T, String> keyOf, Map<ResourceBundle, Map<T, String>> labels) {
+        this.keyOf = keyOf;
+        this.labels = labels;
+    }
+
+    /**
+     * Creates a converter for the items of a control bound to {@code key}:
+     * an enum constant is looked up as {@code key.NAME}, any other item as
+     * {@code key.} followed by its {@code toString()}.
+     *
+     * @param <T> the type of the items
+     * @param key the language key of the control
+     * @return the converter
+     */
+    public static <T> LocalizedStringConverter<T> forKey(String key) {
+        return new LocalizedStringConverter<>(item -> key + "." + (item instanceof Enum<?> constant ? constant.name() : item));
+    }
+
+    /**
+     * Returns the converter a list binder renders a control with: one using
+     * the keys set with {@link Language#setItemKeys(Node, Function)}, or
+     * {@link #forKey(String)} if the items are enum constants.
+     *
+     * @return the converter, or {@code null} if the items are not rendered
+     * through a converter
+     */
+    static <T> LocalizedStringConverter<T> forControl(Node control, List<T> items, String key) {
+        if (!rendersItems(control, items)) return null;
+        Function<? super T, String> itemKeys = Language.getItemKeys(control);
+        return itemKeys != null ? new LocalizedStringConverter<>(itemKeys) : forKey(key);
+    }
+
+    /**
+     * Returns whether a list binder renders the items of a control through a
+     * converter rather than translating them in place.
+     */
+    static boolean rendersItems(Node control, List<?> items) {
+        return Language.getItemKeys(control) != null || !items.isEmpty() && items.get(0) instanceof Enum<?>;
+    }
+
+    /**
+     * Returns the label of an item in the current locale. An item whose key
+     * is missing is shown with its {@code toString()}.
+     *
+     * @param item the item
+     * @return the label, or an empty string for {@code null}
+     */
+    @Override
+    public String toString(T item) {
+        if (item == null) return "";
+        return labels.computeIfAbsent(Language.getBundle(), bundle -> new HashMap<>())
+                .computeIfAbsent(item, i -> Language.get(keyOf.apply(i), String.valueOf(i)));
+    }
+
+    /**
+     * Returns the item shown with a label in the current locale, e.g. the
+     * text typed into an editable combo box.
+     *
+     * @param label the label
+     * @return the item, or {@code null} if no rendered item has this label
+     */
+    @Override
+    public T fromString(String label) {
+        Map<T, String> current = labels.get(Language.getBundle());
+        if (current == null || label == null) return null;
+        for (Map.Entry<T, String> entry : current.entrySet()) {
+            if (entry.getValue().equals(label)) return entry.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a cell factory whose cells show the label of their item and
+     * follow the locale.
+     *
+     * @return the cell factory
+     */
+    public Callback<ListView<T>, ListCell<T>> cellFactory() {
+        return list -> createCell();
+    }
+
+    /**
+     * Creates a cell showing the label of its item in the current locale,
+     * e.g. for the button cell of a {@code ComboBox}.
+     *
+     * @return the cell
+     */
+    public ListCell<T> createCell() {
+        ListCell<T> cell = new ListCell<>();
+        cell.textProperty().bind(Bindings.createStringBinding(
+                () -> cell.isEmpty() ? null : toString(cell.getItem()),
+                cell.itemProperty(), cell.emptyProperty(), Language.bundleProperty()));
+        return cell;
+    }
+
+    /**
+     * Returns a new converter sharing the keys and cached labels of this one.
+     * Setting it on a control whose skin only re-renders when its converter
+     * changes, such as a {@code ChoiceBox}, refreshes the labels.
+     */
+    LocalizedStringConverter<T> renew() {
+        return new LocalizedStringConverter<>(keyOf, labels);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A translation parsed from the small markup subset supported by
+ * {@link TextFlowBinder}: {@code <b>}, {@code <i>}, {@code <a href="...">} and
+ * {@code <br>}, plus the {@code &lt;}, {@code &gt;}, {@code &amp;} and
+ * {@code &quot;} entities. Anything else is kept as literal text.
+ * <p>
+ * Parses are cached per locale and key, so views bound to the same key, and
+ * switches back to a recent locale, reuse the segments instead of tokenizing
+ * the value again. A cached parse is only reused while the value it was
+ * parsed from is unchanged.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class Markup {
+
+    private static final Map<Locale, Map<String, Markup>> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * A run of text with uniform formatting.
+     *
+     * @param text the text of the run
+     * @param bold whether the run is bold
+     * @param italic whether the run is italic
+     * @param href the link target, or {@code null} if the run is not a link
+     */
+    record Segment(String text, boolean bold, boolean italic, String href) {
+    }
+
+    private final String source;
+    private final List<Segment> segments;
+
+    private Markup(String source, List<Segment> segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the parsed segments of a translation, from the cache if it was
+     * parsed before for the same locale and key.
+     *
+     * @param locale the locale of the translation
+     * @param key the bundle key of the translation
+     * @param source the translated value
+     * @return the parsed markup
+     */
+    static Markup of(Locale locale, String key, String source) {
+        Map<String, Markup> parsed = CACHE.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        Markup cached = parsed.get(key);
+        if (cached != null && cached.source.equals(source)) return cached;
+        Markup markup = new Markup(source, parse(source));
+        parsed.put(key, markup);
+        return markup;
+    }
+
+    /**
+     * Returns the formatted runs, in display order.
+     */
+    List<Segment> segments() {
+        return segments;
+    }
+
+    private static List<Segment> parse(String source) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int bold = 0;
+        int italic = 0;
+        String href = null;
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '&') {
+                int semicolon = source.indexOf(';', i);
+                String entity = semicolon > i ? entity(source.substring(i + 1, semicolon)) : null;
+                if (entity != null) {
+                    text.append(entity);
+                    i = semicolon + 1;
+                    continue;
+                }
+            } else if (c == '<') {
+                int close = source.indexOf('>', i);
+                if (close > i) {
+                    String tag = source.substring(i + 1, close).strip();
+                    String name = tag.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+                    boolean known = true;
+                    switch (name) {
+                        case "b", "strong", "/b", "/strong", "i", "em", "/i", "/em", "a", "/a", "br", "br/" -> {
+                            flush(segments, text, bold > 0, italic > 0, href);
+                            switch (name) {
+                                case "b", "strong" -> bold++;
+                                case "/b", "/strong" -> bold = Math.max(0, bold - 1);
+                                case "i", "em" -> italic++;
+                                case "/i", "/em" -> italic = Math.max(0, italic - 1);
+                                case "a" -> href = attribute(tag, "href");
+                                case "/a" -> href = null;
+                                default -> text.append('\n');
+                            }
+                        }
+                        default -> known = false;
+                    }
+                    if (known) {
+                        i = close + 1;
+                        continue;
+                    }
+                }
+            }
+            text.append(c);
+            i++;
+        }
+        flush(segments, text, bold > 0, italic > 0, href);
+        return List.copyOf(segments);
+    }
+
+    private static void flush(List<Segment> segments, StringBuilder text, boolean bold, boolean italic, String href) {
+        if (text.isEmpty()) return;
+        segments.add(new Segment(text.toString(), bold, italic, href));
+        text.setLength(0);
+    }
+
+    private static String attribute(String tag, String name) {
+        int at = tag.indexOf(name + "=");
+        if (at < 0) return "";
+        int start = at + name.length() + 1;
+        if (start >= tag.length()) return "";
+        char quote = tag.charAt(start);
+        if (quote == '"' || quote == '\'') {
+            int end = tag.indexOf(quote, start + 1);
+            return end > start ? tag.substring(start + 1, end) : tag.substring(start + 1);
+        }
+        int end = tag.indexOf(' ', start);
+        return end > start ? tag.substring(start, end) : tag.substring(start);
+    }
+
+    private static String entity(String name) {
+        return switch (name) {
+            case "lt" -> "<";
+            case "gt" -> ">";
+            case "amp" -> "&";
+            case "quot" -> "\"";
+            default -> null;
+        };
+    }
+}
@@ -50,6 +50,9 @@ public class MenuBinder implements ControlBinder {
 
     /**
      * Binds the {@code textProperty} of the {@link Menu} to the language key.
+     * When {@link Language#setDeferHiddenContent(boolean) deferred translation}
+     * is enabled, submenus are only updated while their parent menu is
+     * showing.
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -58,7 +61,7 @@ public class MenuBinder implements ControlBinder {
     @Override
     public void bind(Object control, String key) {
         if (control instanceof Menu menu) {
-            menu.textProperty().bind(Language.bind(key, menu.getText()));
+            Language.bindProperty(menu.textProperty(), Language.bindDeferred(key, menu.getText(), MenuItemBinder.parentShowing(menu)));
         }
     }
 }
@@ -24,6 +24,7 @@
 package io.github.snoopy137.languagemanager.binding;
 
 import io.github.snoopy137.languagemanager.utils.Language;
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.scene.control.MenuItem;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,7 +54,9 @@ public class MenuItemBinder implements ControlBinder {
 
     /**
      * Binds the {@code textProperty} of the {@link MenuItem} to the language
-     * key.
+     * key. When {@link Language#setDeferHiddenContent(boolean) deferred
+     * translation} is enabled, items of a menu or context menu are only
+     * updated while their menu is showing.
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -63,7 +66,21 @@ public class MenuItemBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof MenuItem item) {
             log.debug("Binding text property of MenuItem '{}'", key);
-            item.textProperty().bind(Language.bind(key, item.getText()));
+            Language.bindProperty(item.textProperty(), Language.bindDeferred(key, item.getText(), parentShowing(item)));
         }
     }
+
+    /**
+     * Returns the showing property of the menu or context menu containing the
+     * item, or {@code null} if the item is not inside one (e.g. a top-level
+     * menu of a {@code MenuBar}, which is always visible).
+     *
+     * @param item the item to check
+     * @return whether the item's parent menu is showing, or {@code null}
+     */
+    static ObservableBooleanValue parentShowing(MenuItem item) {
+        if (item.getParentMenu() != null) return item.getParentMenu().showingProperty();
+        if (item.getParentPopup() != null) return item.getParentPopup().showingProperty();
+        return null;
+    }
 }
@@ -66,7 +66,7 @@ public class RadioButtonBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof RadioButton radioButton) {
             log.debug("Binding text property of RadioButton to key '{}'", key);
-            radioButton.textProperty().bind(Language.bind(key, radioButton.getText()));
+            Language.bindProperty(radioButton.textProperty(), Language.bind(key, radioButton.getText()));
         }
     }
 }
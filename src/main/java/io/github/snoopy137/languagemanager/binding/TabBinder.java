@@ -58,6 +58,12 @@ public class TabBinder implements ControlBinder {
     /**
      * Binds the {@code textProperty} and {@code tooltip.textProperty} of the
      * {@link Tab} to the language key.
+     * <p>
+     * When {@link Language#setDeferHiddenContent(boolean) deferred
+     * translation} is enabled, the tab content is registered as hidden while
+     * the tab is not selected, and the tooltip is only updated while it is
+     * showing.
+     * </p>
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -67,17 +73,24 @@ public class TabBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof Tab tab) {
             // Bind the text property
-            tab.textProperty().bind(Language.bind(key, tab.getText()));
+            Language.bindProperty(tab.textProperty(), Language.bind(key, tab.getText()));
 
             // Bind the tooltip property, if it exists
             if (tab.getTooltip() != null) {
-                tab.getTooltip().textProperty().bind(Language.bind(key + ".tooltip", tab.getTooltip().getText()));
+                Tooltip tooltip = tab.getTooltip();
+                Language.bindProperty(tooltip.textProperty(), Language.bindDeferred(key + ".tooltip", tooltip.getText(), tooltip.showingProperty()));
             } else {
                 // If there's no tooltip, create and bind it
                 Tooltip tooltip = new Tooltip();
-                tooltip.textProperty().bind(Language.bind(key + ".tooltip", ""));
+                Language.bindProperty(tooltip.textProperty(), Language.bindDeferred(key + ".tooltip", "", tooltip.showingProperty()));
                 tab.setTooltip(tooltip);
             }
+
+            // Translate the content of unselected tabs only once they are selected
+            if (Language.isDeferHiddenContent()) {
+                Language.deferContent(tab.getContent(), tab.selectedProperty());
+                tab.contentProperty().addListener((obs, oldContent, newContent) -> Language.deferContent(newContent, tab.selectedProperty()));
+            }
         }
     }
 
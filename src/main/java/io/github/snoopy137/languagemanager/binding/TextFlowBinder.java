@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.binding;
+
+import io.github.snoopy137.languagemanager.utils.Language;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.binding.StringBinding;
+import javafx.scene.Node;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binds the children of {@link TextFlow} nodes to a language key holding rich
+ * text.
+ * <p>
+ * The bundle value may use a small markup subset: {@code <b>} and {@code <i>}
+ * (or {@code <strong>} and {@code <em>}) for bold and italic text,
+ * {@code <a href="...">} for links and {@code <br>} for line breaks. On every
+ * locale switch the children are rebuilt as {@link Text} nodes and
+ * {@link Hyperlink}s. Clicking a link passes its {@code href} to the handler
+ * set with {@link Language#setLinkHandler(java.util.function.Consumer)}. If
+ * the key is missing, the original children are kept.
+ * </p>
+ * <pre>
+ * terms=I accept the &lt;a href="terms"&gt;terms of use&lt;/a&gt; and the &lt;b&gt;privacy policy&lt;/b&gt;.
+ * </pre>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public class TextFlowBinder implements ControlBinder {
+
+    private static final Object MARKUP_BINDING = new Object();
+
+    /**
+     * Returns {@code true} if the control is a {@link TextFlow}.
+     *
+     * @param control the control to check
+     * @return {@code true} if the control is a TextFlow, otherwise
+     * {@code false}
+     */
+    @Override
+    public boolean supports(Object control) {
+        return control instanceof TextFlow;
+    }
+
+    /**
+     * Binds the children of the {@link TextFlow} to the rich text held by the
+     * language key.
+     *
+     * @param control the control to bind
+     * @param key the language key whose value is the rich text
+     */
+    @Override
+    public void bind(Object control, String key) {
+        if (control instanceof TextFlow textFlow) {
+            log.debug("Binding children of TextFlow to key '{}'", key);
+            List<Node> original = List.copyOf(textFlow.getChildren());
+            StringBinding markup = Language.bind(key, null);
+            markup.addListener((obs, oldVal, newVal) -> update(textFlow, key, newVal, original));
+            // The bundle only holds bindings weakly, so the node keeps its binding alive
+            textFlow.getProperties().put(MARKUP_BINDING, markup);
+            update(textFlow, key, markup.get(), original);
+        }
+    }
+
+    private static void update(TextFlow textFlow, String key, String value, List<Node> original) {
+        if (value == null) {
+            textFlow.getChildren().setAll(original);
+            return;
+        }
+        List<Markup.Segment> segments = Markup.of(Language.getLocale(), key, value).segments();
+        List<Node> children = new ArrayList<>(segments.size());
+        for (Markup.Segment segment : segments) {
+            children.add(segment.href() != null ? link(segment) : text(segment));
+        }
+        textFlow.getChildren().setAll(children);
+    }
+
+    private static Text text(Markup.Segment segment) {
+        Text text = new Text(segment.text());
+        String style = style(segment);
+        if (!style.isEmpty()) text.setStyle(style);
+        return text;
+    }
+
+    private static Hyperlink link(Markup.Segment segment) {
+        Hyperlink link = new Hyperlink(segment.text());
+        String style = style(segment);
+        if (!style.isEmpty()) link.setStyle(style);
+        String href = segment.href();
+        link.setOnAction(event -> Language.getLinkHandler().accept(href));
+        return link;
+    }
+
+    private static String style(Markup.Segment segment) {
+        if (segment.bold() && segment.italic()) return "-fx-font-weight: bold; -fx-font-style: italic;";
+        if (segment.bold()) return "-fx-font-weight: bold;";
+        if (segment.italic()) return "-fx-font-style: italic;";
+        return "";
+    }
+}
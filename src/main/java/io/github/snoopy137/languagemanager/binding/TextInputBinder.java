@@ -71,6 +71,6 @@ public class TextInputBinder implements ControlBinder {
         TextInputControl input = (TextInputControl) control;
         String promptKey = key + ".prompt";
         log.debug("Binding promptText property of TextInputControl to key '{}'", promptKey);
-        input.promptTextProperty().bind(Language.bind(promptKey, input.getPromptText()));
+        Language.bindProperty(input.promptTextProperty(), Language.bindDeferred(promptKey, input.getPromptText(), input));
     }
 }
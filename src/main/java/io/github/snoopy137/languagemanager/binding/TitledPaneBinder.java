@@ -57,6 +57,11 @@ public class TitledPaneBinder implements ControlBinder {
     /**
      * Binds the {@code textProperty} of the {@link TitledPane} to the language
      * key.
+     * <p>
+     * When {@link Language#setDeferHiddenContent(boolean) deferred
+     * translation} is enabled, the pane content is registered as hidden while
+     * the pane is collapsed.
+     * </p>
      *
      * @param control the control to bind
      * @param key the language key used to retrieve localized text from the
@@ -66,7 +71,13 @@ public class TitledPaneBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof TitledPane pane) {
             log.debug("Binding text property of TitledPane to key '{}'", key);
-            pane.textProperty().bind(Language.bind(key, pane.getText()));
+            Language.bindProperty(pane.textProperty(), Language.bindDeferred(key, pane.getText(), pane));
+
+            // Translate the content of collapsed panes only once they are expanded
+            if (Language.isDeferHiddenContent()) {
+                Language.deferContent(pane.getContent(), pane.expandedProperty());
+                pane.contentProperty().addListener((obs, oldContent, newContent) -> Language.deferContent(newContent, pane.expandedProperty()));
+            }
         }
     }
 }
@@ -63,7 +63,7 @@ public class TooltipBinder implements ControlBinder {
     public void bind(Object control, String key) {
         if (control instanceof Tooltip tooltip) {
             log.debug("Binding text property of Tooltip '{}'", key);
-            tooltip.textProperty().bind(Language.bind(key, tooltip.getText()));
+            Language.bindProperty(tooltip.textProperty(), Language.bind(key, tooltip.getText()));
         }
     }
 }
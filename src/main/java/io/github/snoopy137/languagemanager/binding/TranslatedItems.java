@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.binding;
+
+import io.github.snoopy137.languagemanager.utils.Language;
+import java.text.CollationKey;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.SelectionModel;
+
+/**
+ * The translated {@code String} items of a list control, bound to the keys
+ * {@code key.0}, {@code key.1}, ... by the index of each original item.
+ * <p>
+ * On every bundle change the items are translated into a new list and
+ * replaced with a single {@code setAll}, so the control sees one change
+ * instead of one per item. If the control was marked with
+ * {@link Language#sortByCollation(Node)}, the items are ordered by the
+ * collation rules of the current locale, using cached collation keys. The
+ * selected item is kept selected across updates, wherever it moves.
+ * </p>
+ * <p>
+ * Items of an empty control marked with
+ * {@link Language#populateFromKeys(Node)} are instead taken from the bundle:
+ * one per child of the base key (see {@link Language#childKeys(String)}),
+ * looked up again on every update. They are left alone once the
+ * application changes the list, or if the bundle has no child keys.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class TranslatedItems {
+
+    private final Node control;
+    private final ObservableList<String> items;
+    private final SelectionModel<String> selection;
+    private final String baseKey;
+    private String[] keys;
+    private String[] originals;
+    private Integer[] order;
+    private Object[] populated;
+
+    /**
+     * Captures the current items of a control as the originals to translate,
+     * or takes the items from the bundle if the control has none and was
+     * marked with {@link Language#populateFromKeys(Node)}.
+     *
+     * @param control the list control
+     * @param items the items of the control
+     * @param selection the selection model to preserve, or {@code null}
+     * @param key the base key of the items
+     */
+    TranslatedItems(Node control, ObservableList<String> items, SelectionModel<String> selection, String key) {
+        this.control = control;
+        this.items = items;
+        this.selection = selection;
+        this.baseKey = items.isEmpty() && Language.isPopulatedFromKeys(control) ? key : null;
+        String[] itemKeys = new String[items.size()];
+        for (int i = 0; i < itemKeys.length; i++) {
+            itemKeys[i] = key + "." + i;
+        }
+        reset(itemKeys, items.toArray(String[]::new));
+    }
+
+    private void reset(String[] itemKeys, String[] itemOriginals) {
+        keys = itemKeys;
+        originals = itemOriginals;
+        order = new Integer[itemKeys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Translates the items with the current bundle and replaces them in one
+     * change.
+     */
+    void update() {
+        int selectedIndex = selection != null ? selection.getSelectedIndex() : -1;
+        String selectedKey = selectedIndex >= 0 && selectedIndex < order.length ? keys[order[selectedIndex]] : null;
+        if (baseKey != null) {
+            if (populated != null && !Arrays.equals(populated, items.toArray())) {
+                // The application took over the list
+                return;
+            }
+            List<String> children = Language.childKeys(baseKey);
+            if (children.isEmpty()) return;
+            if (!children.equals(Arrays.asList(keys))) {
+                String[] childKeys = children.toArray(String[]::new);
+                reset(childKeys, childKeys);
+            }
+        }
+        int size = keys.length;
+        String[] texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            texts[i] = Language.get(keys[i], originals[i]);
+        }
+        Integer[] next = order;
+        if (Language.isSortedByCollation(control)) {
+            CollationKey[] collationKeys = new CollationKey[size];
+            for (int i = 0; i < size; i++) {
+                collationKeys[i] = Language.collationKey(keys[i], texts[i]);
+            }
+            next = order.clone();
+            Arrays.sort(next, (a, b) -> collationKeys[a].compareTo(collationKeys[b]));
+        }
+        String[] translated = new String[size];
+        int reselect = -1;
+        for (int position = 0; position < size; position++) {
+            translated[position] = texts[next[position]];
+            if (keys[next[position]].equals(selectedKey)) reselect = position;
+        }
+        order = next;
+        if (!Arrays.equals(translated, items.toArray())) {
+            items.setAll(Arrays.asList(translated));
+        }
+        if (baseKey != null) populated = translated;
+        if (reselect >= 0 && selection.getSelectedIndex() != reselect) {
+            selection.clearAndSelect(reselect);
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package io.github.snoopy137.languagemanager.binding;
 
 import io.github.snoopy137.languagemanager.utils.Language;
+import java.util.ResourceBundle;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeView;
@@ -37,6 +38,14 @@ import lombok.extern.slf4j.Slf4j;
  * and binds its value (and the value of its children) to the language bundle
  * using the provided key and an index.
  * </p>
+ * <p>
+ * A TreeView without a root, marked with
+ * {@link Language#populateFromKeys(javafx.scene.Node)}, is built from the
+ * bundle instead: the root is
+ * bound to the key itself and every level below it to the child keys of its
+ * parent (see {@link Language#childKeys(String)}), e.g. {@code menu.file} and
+ * {@code menu.file.open} under {@code menu}.
+ * </p>
  *
  * @author alan
  * @since 1.1.0
@@ -67,6 +76,16 @@ public class TreeItemBinder implements ControlBinder {
     @Override
     public void bind(Object control, String key) {
         if (control instanceof TreeView<?> treeView) {
+            if (treeView.getRoot() == null) {
+                if (!Language.isPopulatedFromKeys(treeView)) {
+                    log.warn("TreeView has no root to bind. Skipping binding for key '{}'", key);
+                    return;
+                }
+                @SuppressWarnings("unchecked")
+                TreeView<String> stringTreeView = (TreeView<String>) treeView;
+                populate(stringTreeView, key);
+                return;
+            }
             bindTreeItem(treeView.getRoot(), key, 0);
             for (int i = 1; i < treeView.getRoot().getChildren().size() - 1; i++) {
                 bindTreeItem(treeView.getRoot().getChildren().get(i), key, i);
@@ -74,6 +93,31 @@ public class TreeItemBinder implements ControlBinder {
         }
     }
 
+    /**
+     * Builds the tree from the keys below {@code key} in the current bundle.
+     * The structure is taken once; the item values follow the locale. The
+     * root is hidden if the bundle has no text for the key itself.
+     *
+     * @param treeView the empty TreeView
+     * @param key the key of the root
+     */
+    private void populate(TreeView<String> treeView, String key) {
+        ResourceBundle bundle = Language.getBundle();
+        boolean labeled = bundle != null && bundle.containsKey(key);
+        treeView.setRoot(createTreeItem(key, labeled));
+        if (!labeled) treeView.setShowRoot(false);
+        log.debug("Populated TreeView from key '{}'", key);
+    }
+
+    private TreeItem<String> createTreeItem(String key, boolean labeled) {
+        TreeItem<String> treeItem = new TreeItem<>();
+        if (labeled) Language.bindProperty(treeItem.valueProperty(), Language.bind(key, key));
+        for (String child : Language.childKeys(key)) {
+            treeItem.getChildren().add(createTreeItem(child, true));
+        }
+        return treeItem;
+    }
+
     /**
      * Recursively binds a TreeItem (and its children) to language keys based on
      * their index.
@@ -91,7 +135,7 @@ public class TreeItemBinder implements ControlBinder {
             ObservableValue binding = Language.bind(itemKey, (String) treeItem.getValue());
 
             // Bind the valueProperty of the TreeItem to the StringBinding
-            treeItem.valueProperty().bind(binding);
+            Language.bindProperty(treeItem.valueProperty(), binding);
 
             // Bind the children of this TreeItem
             for (int i = 0; i < treeItem.getChildren().size(); i++) {
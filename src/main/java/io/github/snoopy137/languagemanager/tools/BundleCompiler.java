@@ -0,0 +1,358 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.tools;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Build-time tool that compiles {@code .properties} bundles into Java classes
+ * holding their keys and values as constant arrays.
+ * <p>
+ * Each {@code <baseName>[_<locale>].properties} file becomes a subclass of
+ * {@link io.github.snoopy137.languagemanager.utils.CompiledBundle}, and an
+ * index class {@code GeneratedBundles} is written next to them. Calling
+ * {@code GeneratedBundles.install()} at startup registers every bundle with
+ * {@code Language}, so no resource is read or parsed at runtime and native
+ * images need no resource or reflection configuration for the bundles.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java io.github.snoopy137.languagemanager.tools.BundleCompiler &lt;resourcesDir&gt; &lt;outputDir&gt; &lt;package&gt; [baseName...]
+ * </pre>
+ * <p>
+ * When no base names are given, every {@code .properties} file below
+ * {@code resourcesDir} is compiled, and a file is taken as a locale of the
+ * longest other bundle whose name it extends with a locale suffix, e.g.
+ * {@code my_app_es} of {@code my_app}. Bundles without a default file are
+ * grouped by the base name their locale files share, which is ambiguous for
+ * base names containing underscores; pass those explicitly.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public final class BundleCompiler {
+
+    private static final Pattern LOCALE_SUFFIX = Pattern.compile("^([a-z]{2,3})(?:_([A-Z]{2}|\\d{3}))?(?:_(\\w+))?$");
+    private static final Pattern LOCALIZED_NAME = Pattern.compile("^(.+)_[a-z]{2,3}(?:_(?:[A-Z]{2}|\\d{3}))?$");
+    private static final int ENTRIES_PER_METHOD = 500;
+    private static final int ENTRIES_PER_PART = 8000;
+
+    private BundleCompiler() {
+    }
+
+    /**
+     * Runs the compiler from the command line.
+     *
+     * @param args {@code <resourcesDir> <outputDir> <package> [baseName...]}
+     * @throws IOException if a bundle cannot be read or a class cannot be
+     * written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BundleCompiler <resourcesDir> <outputDir> <package> [baseName...]");
+            System.exit(2);
+        }
+        compile(Path.of(args[0]), Path.of(args[1]), args[2], Arrays.asList(args).subList(3, args.length));
+    }
+
+    /**
+     * Compiles the bundles found below {@code resourcesDir} into Java sources.
+     *
+     * @param resourcesDir the root of the resources, e.g.
+     * {@code src/main/resources}
+     * @param outputDir the root of the generated sources
+     * @param packageName the package of the generated classes
+     * @param baseNames the base names to compile, or an empty list to compile
+     * every bundle found, with base names inferred from the file names
+     * @return the number of compiled bundles
+     * @throws IOException if a bundle cannot be read or a class cannot be
+     * written
+     */
+    public static int compile(Path resourcesDir, Path outputDir, String packageName, List<String> baseNames) throws IOException {
+        Path packageDir = outputDir.resolve(packageName.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        List<String> classNames = new ArrayList<>();
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(resourcesDir)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(".properties")).sorted().toList();
+        }
+        Map<Path, String> bundleNames = new TreeMap<>();
+        for (Path file : files) {
+            bundleNames.put(file, bundleName(resourcesDir, file));
+        }
+        Collection<String> bases = baseNames.isEmpty() ? inferBaseNames(bundleNames.values()) : baseNames;
+        for (Path file : files) {
+            String relative = resourcesDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            String[] parsed = parse(bundleNames.get(file), bases);
+            if (parsed == null) {
+                log.debug("Skipping '{}', it does not belong to a requested base name", relative);
+                continue;
+            }
+            String className = className(parsed[0], parsed[1]);
+            writeBundleClass(packageDir.resolve(className + ".java"), packageName, className, parsed[0], parsed[1], load(file));
+            classNames.add(className);
+            log.info("Compiled '{}' into {}.{}", relative, packageName, className);
+        }
+        writeIndexClass(packageDir.resolve("GeneratedBundles.java"), packageName, classNames);
+        return classNames.size();
+    }
+
+    /**
+     * Returns the bundle name of a file below the resources root, e.g.
+     * {@code i18n.language_es} for {@code i18n/language_es.properties}.
+     */
+    static String bundleName(Path resourcesDir, Path file) {
+        String relative = resourcesDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+        return relative.substring(0, relative.length() - ".properties".length()).replace('/', '.');
+    }
+
+    /**
+     * Infers the base names of a set of bundles: every bundle that other
+     * bundles extend with a locale suffix, and every bundle extending no
+     * other one. Locale files whose default file is missing are grouped under
+     * the base name they share, e.g. {@code language} for
+     * {@code language_en} and {@code language_es_AR}.
+     *
+     * @param bundleNames the names of all bundles found
+     * @return the base names
+     */
+    static Set<String> inferBaseNames(Collection<String> bundleNames) {
+        Set<String> baseNames = new TreeSet<>();
+        Map<String, List<String>> rootless = new TreeMap<>();
+        for (String name : bundleNames) {
+            boolean extended = bundleNames.stream().anyMatch(other -> isLocaleOf(other, name));
+            if (extended) {
+                baseNames.add(name);
+            } else if (bundleNames.stream().noneMatch(other -> isLocaleOf(name, other))) {
+                Matcher matcher = LOCALIZED_NAME.matcher(name);
+                if (matcher.matches()) {
+                    rootless.computeIfAbsent(matcher.group(1), base -> new ArrayList<>()).add(name);
+                } else {
+                    baseNames.add(name);
+                }
+            }
+        }
+        rootless.forEach((base, names) -> {
+            if (names.size() > 1) {
+                baseNames.add(base);
+            } else {
+                baseNames.addAll(names);
+            }
+        });
+        return baseNames;
+    }
+
+    private static boolean isLocaleOf(String bundleName, String baseName) {
+        return bundleName.startsWith(baseName + "_")
+                && LOCALE_SUFFIX.matcher(bundleName.substring(baseName.length() + 1)).matches();
+    }
+
+    /**
+     * Splits a bundle name into its base name and language tag. A bundle
+     * named like a base name is that base's default bundle; otherwise it
+     * belongs to the longest base name it extends with a locale suffix, so
+     * {@code app_ui_de} is the German locale of {@code app_ui} when both
+     * {@code app} and {@code app_ui} are base names.
+     *
+     * @param bundleName the bundle name, e.g. {@code my_app_es}
+     * @param baseNames the known base names
+     * @return {@code [baseName, languageTag]}, or {@code null} if the bundle
+     * is neither one of the base names nor a locale of one
+     */
+    static String[] parse(String bundleName, Collection<String> baseNames) {
+        if (baseNames.contains(bundleName)) return new String[]{bundleName, ""};
+        String best = null;
+        Matcher bestSuffix = null;
+        for (String baseName : baseNames) {
+            if (best != null && baseName.length() <= best.length()) continue;
+            if (!bundleName.startsWith(baseName + "_")) continue;
+            Matcher suffix = LOCALE_SUFFIX.matcher(bundleName.substring(baseName.length() + 1));
+            if (!suffix.matches()) continue;
+            best = baseName;
+            bestSuffix = suffix;
+        }
+        return best != null ? new String[]{best, toTag(bestSuffix)} : null;
+    }
+
+    private static String toTag(Matcher suffix) {
+        String country = suffix.group(2) != null ? suffix.group(2) : "";
+        String variant = suffix.group(3) != null ? suffix.group(3) : "";
+        return new Locale(suffix.group(1), country, variant).toLanguageTag();
+    }
+
+    /**
+     * Reads a properties file the same way {@code PropertyResourceBundle}
+     * does: as UTF-8, falling back to ISO-8859-1 if the file is not valid
+     * UTF-8.
+     */
+    static Map<String, String> load(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        Properties properties = new Properties();
+        try (Reader reader = new StringReader(StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes)).toString())) {
+            properties.load(reader);
+        } catch (CharacterCodingException e) {
+            properties.clear();
+            try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.ISO_8859_1)) {
+                properties.load(reader);
+            }
+        }
+        Map<String, String> entries = new TreeMap<>();
+        properties.forEach((key, value) -> entries.put((String) key, (String) value));
+        return entries;
+    }
+
+    private static String className(String baseName, String languageTag) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = true;
+        for (char c : baseName.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = true;
+            }
+        }
+        if (name.length() == 0 || !Character.isJavaIdentifierStart(name.charAt(0))) name.insert(0, 'B');
+        name.append("Bundle");
+        if (!languageTag.isEmpty()) name.append('_').append(languageTag.replaceAll("[^A-Za-z0-9]", "_"));
+        return name.toString();
+    }
+
+    private static void writeBundleClass(Path target, String packageName, String className, String baseName,
+            String languageTag, Map<String, String> entries) throws IOException {
+        List<Map.Entry<String, String>> list = new ArrayList<>(entries.entrySet());
+        try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            out.write("// Generated by BundleCompiler. Do not edit.\n");
+            out.write("package " + packageName + ";\n\n");
+            out.write("final class " + className + " extends io.github.snoopy137.languagemanager.utils.CompiledBundle {\n\n");
+            out.write("    private static final String[] KEYS = new String[" + list.size() + "];\n");
+            out.write("    private static final String[] VALUES = new String[" + list.size() + "];\n\n");
+            out.write("    static {\n");
+            int parts = (list.size() + ENTRIES_PER_PART - 1) / ENTRIES_PER_PART;
+            for (int p = 0; p < parts; p++) {
+                out.write("        Part" + p + ".fill(KEYS, VALUES);\n");
+            }
+            out.write("    }\n\n");
+            out.write("    " + className + "() {\n");
+            out.write("        super(" + literal(baseName) + ", " + literal(languageTag) + ", KEYS, VALUES);\n");
+            out.write("    }\n");
+            // Split the constants over nested classes and methods to stay below the
+            // per-class constant pool and per-method bytecode limits.
+            for (int p = 0; p < parts; p++) {
+                int partStart = p * ENTRIES_PER_PART;
+                int partEnd = Math.min(list.size(), partStart + ENTRIES_PER_PART);
+                out.write("\n    private static final class Part" + p + " {\n\n");
+                out.write("        static void fill(String[] k, String[] v) {\n");
+                for (int start = partStart, m = 0; start < partEnd; start += ENTRIES_PER_METHOD, m++) {
+                    out.write("            fill" + m + "(k, v);\n");
+                }
+                out.write("        }\n");
+                for (int start = partStart, m = 0; start < partEnd; start += ENTRIES_PER_METHOD, m++) {
+                    out.write("\n        private static void fill" + m + "(String[] k, String[] v) {\n");
+                    for (int i = start; i < Math.min(partEnd, start + ENTRIES_PER_METHOD); i++) {
+                        out.write("            k[" + i + "] = " + literal(list.get(i).getKey()) + ";\n");
+                        out.write("            v[" + i + "] = " + literal(list.get(i).getValue()) + ";\n");
+                    }
+                    out.write("        }\n");
+                }
+                out.write("    }\n");
+            }
+            out.write("}\n");
+        }
+    }
+
+    private static void writeIndexClass(Path target, String packageName, List<String> classNames) throws IOException {
+        try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            out.write("// Generated by BundleCompiler. Do not edit.\n");
+            out.write("package " + packageName + ";\n\n");
+            out.write("public final class GeneratedBundles {\n\n");
+            out.write("    private GeneratedBundles() {\n    }\n\n");
+            out.write("    public static void install() {\n");
+            out.write("        io.github.snoopy137.languagemanager.utils.Language.registerCompiledBundles(\n");
+            for (int i = 0; i < classNames.size(); i++) {
+                out.write("                new " + classNames.get(i) + "()" + (i < classNames.size() - 1 ? ",\n" : "\n"));
+            }
+            out.write("        );\n");
+            out.write("    }\n");
+            out.write("}\n");
+        }
+    }
+
+    /**
+     * Writes a string as a Java literal, escaping everything outside printable
+     * ASCII so the generated source does not depend on the compiler encoding.
+     */
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 alan.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.snoopy137.languagemanager.tools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Build-time tool that finds the keys of {@code .properties} bundles that are
+ * never used, based on usage files recorded at runtime with
+ * {@code Language.setKeyUsageTracking(true)} and
+ * {@code Language.writeUsedKeys(Path)}.
+ * <p>
+ * A key counts as used if it is listed in a usage file, or if its parent key
+ * (the key up to its last dot) is: this keeps the plural and select forms of
+ * a used base key, and the items of used list controls, even if a session
+ * only displayed some of them. Reserved keys starting with {@code @} are
+ * always kept.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * java io.github.snoopy137.languagemanager.tools.BundlePruner [--prune &lt;outputDir&gt;] &lt;resourcesDir&gt; &lt;baseName[,baseName...]&gt; &lt;usageFile...&gt;
+ * </pre>
+ * <p>
+ * Only the {@code <baseName>[_<locale>].properties} files of the given base
+ * names are read, matched like {@link BundleCompiler} does, so other
+ * {@code .properties} files such as application configuration are left
+ * alone. Without {@code --prune}, every unused key is reported as a warning. With
+ * {@code --prune}, a copy of every bundle without its unused keys is written
+ * below {@code outputDir}, at the same relative path, e.g. into
+ * {@code target/classes} after resources have been processed. The source
+ * bundles are never modified.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public final class BundlePruner {
+
+    private BundlePruner() {
+    }
+
+    /**
+     * Runs the pruner from the command line.
+     *
+     * @param args
+     * {@code [--prune <outputDir>] <resourcesDir> <baseName[,baseName...]> <usageFile...>}
+     * @throws IOException if a bundle or usage file cannot be read, or a
+     * pruned bundle cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int first = 0;
+        Path outputDir = null;
+        if (args.length >= 2 && args[0].equals("--prune")) {
+            outputDir = Path.of(args[1]);
+            first = 2;
+        }
+        if (args.length - first < 3) {
+            System.err.println("Usage: BundlePruner [--prune <outputDir>] <resourcesDir> <baseName[,baseName...]> <usageFile...>");
+            System.exit(2);
+        }
+        Path resourcesDir = Path.of(args[first]);
+        List<String> baseNames = List.of(args[first + 1].split(","));
+        List<Path> usageFiles = new ArrayList<>();
+        for (int i = first + 2; i < args.length; i++) {
+            usageFiles.add(Path.of(args[i]));
+        }
+        Set<String> used = readUsage(usageFiles);
+        if (outputDir == null) {
+            findUnused(resourcesDir, baseNames, used).forEach((file, keys) -> keys.forEach(key
+                    -> log.warn("Unused key '{}' in {}", key, resourcesDir.relativize(file))));
+        } else {
+            prune(resourcesDir, outputDir, baseNames, used);
+        }
+    }
+
+    /**
+     * Reads and merges usage files, one key per line. Blank lines and lines
+     * starting with {@code #} are ignored.
+     *
+     * @param usageFiles the usage files
+     * @return the used keys
+     * @throws IOException if a file cannot be read
+     */
+    public static Set<String> readUsage(List<Path> usageFiles) throws IOException {
+        Set<String> used = new HashSet<>();
+        for (Path file : usageFiles) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String key = line.strip();
+                if (!key.isEmpty() && !key.startsWith("#")) used.add(key);
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Finds the unused keys of the bundles of the given base names below
+     * {@code resourcesDir}.
+     *
+     * @param resourcesDir the root of the resources
+     * @param baseNames the base names of the bundles, e.g. {@code language}
+     * or {@code i18n.messages}
+     * @param used the used keys
+     * @return the unused keys of each bundle that has any, in file order
+     * @throws IOException if a bundle cannot be read
+     */
+    public static Map<Path, List<String>> findUnused(Path resourcesDir, List<String> baseNames, Set<String> used)
+            throws IOException {
+        Map<Path, List<String>> unused = new TreeMap<>();
+        for (Path file : bundles(resourcesDir, baseNames)) {
+            List<String> keys = new ArrayList<>();
+            for (String key : BundleCompiler.load(file).keySet()) {
+                if (!isUsed(key, used)) keys.add(key);
+            }
+            if (!keys.isEmpty()) unused.put(file, keys);
+        }
+        return unused;
+    }
+
+    /**
+     * Writes a copy of every bundle of the given base names below
+     * {@code resourcesDir} without its unused keys to the same relative path
+     * below {@code outputDir}.
+     *
+     * @param resourcesDir the root of the resources
+     * @param outputDir the root the pruned bundles are written to
+     * @param baseNames the base names of the bundles
+     * @param used the used keys
+     * @return the number of removed entries over all bundles
+     * @throws IOException if a bundle cannot be read or written
+     */
+    public static int prune(Path resourcesDir, Path outputDir, List<String> baseNames, Set<String> used)
+            throws IOException {
+        int removed = 0;
+        for (Path file : bundles(resourcesDir, baseNames)) {
+            Map<String, String> entries = BundleCompiler.load(file);
+            int before = entries.size();
+            entries.keySet().removeIf(key -> !isUsed(key, used));
+            removed += before - entries.size();
+            Path target = outputDir.resolve(resourcesDir.relativize(file).toString());
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    out.write(escape(entry.getKey(), true) + "=" + escape(entry.getValue(), false) + "\n");
+                }
+            }
+            log.info("Pruned {} of {} entries from {}", before - entries.size(), before, resourcesDir.relativize(file));
+        }
+        return removed;
+    }
+
+    private static boolean isUsed(String key, Set<String> used) {
+        if (key.startsWith("@") || used.contains(key)) return true;
+        int dot = key.lastIndexOf('.');
+        return dot > 0 && used.contains(key.substring(0, dot));
+    }
+
+    private static List<Path> bundles(Path resourcesDir, List<String> baseNames) throws IOException {
+        try (Stream<Path> stream = Files.walk(resourcesDir)) {
+            return stream.filter(p -> p.getFileName().toString().endsWith(".properties"))
+                    .filter(p -> BundleCompiler.parse(BundleCompiler.bundleName(resourcesDir, p), baseNames) != null)
+                    .sorted().toList();
+        }
+    }
+
+    /**
+     * Escapes a key or value for a {@code .properties} file read as UTF-8.
+     */
+    private static String escape(String text, boolean key) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                case '\f' -> out.append("\\f");
+                case '=', ':', '#', '!', ' ' -> {
+                    // Values only need their leading whitespace escaped
+                    if (key || (c == ' ' && i == 0)) out.append('\\');
+                    out.append(c);
+                }
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
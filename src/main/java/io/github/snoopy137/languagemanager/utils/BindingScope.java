@@ -0,0 +1,102 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.event.EventHandler;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks every binding and listener created for one view, so they can be
+ * released together when the view is closed.
+ * <p>
+ * A scope is returned by {@link Language#autoBind(Object)},
+ * {@link Language#autoBindField(Object, String)},
+ * {@link Language#loadFxml(javafx.fxml.FXMLLoader)} and
+ * {@link Language#scoped(Runnable)}. Closing it unbinds the bound properties,
+ * disposes the bindings and removes the bundle listeners that were created
+ * while it was active. A closed view then neither stays reachable through
+ * {@code bundleProperty} nor receives updates on later locale switches.
+ * </p>
+ *
+ * <pre>
+ * Language.autoBind(this).closeOnHidden(stage);
+ * </pre>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public final class BindingScope implements AutoCloseable {
+
+    private final List<Runnable> releases = new ArrayList<>();
+    private boolean closed;
+
+    BindingScope() {
+    }
+
+    /**
+     * Adds an action releasing a binding or listener. If the scope is already
+     * closed, the action is run immediately.
+     */
+    void add(Runnable release) {
+        synchronized (releases) {
+            if (!closed) {
+                releases.add(release);
+                return;
+            }
+        }
+        release.run();
+    }
+
+    /**
+     * Releases every binding and listener of this scope, in reverse creation
+     * order. Closing a scope more than once has no effect.
+     */
+    @Override
+    public void close() {
+        List<Runnable> toRelease;
+        synchronized (releases) {
+            if (closed) return;
+            closed = true;
+            toRelease = new ArrayList<>(releases);
+            releases.clear();
+        }
+        for (int i = toRelease.size() - 1; i >= 0; i--) {
+            toRelease.get(i).run();
+        }
+        log.debug("Released {} language binding(s)", toRelease.size());
+    }
+
+    /**
+     * Returns whether this scope has been closed.
+     *
+     * @return {@code true} if {@link #close()} was called
+     */
+    public boolean isClosed() {
+        synchronized (releases) {
+            return closed;
+        }
+    }
+
+    /**
+     * Closes this scope as soon as the given window is hidden, e.g. when a
+     * dialog is closed.
+     *
+     * @param window the window showing the view of this scope
+     * @return this scope
+     */
+    public BindingScope closeOnHidden(Window window) {
+        EventHandler<WindowEvent> handler = new EventHandler<>() {
+            @Override
+            public void handle(WindowEvent event) {
+                window.removeEventHandler(WindowEvent.WINDOW_HIDDEN, this);
+                close();
+            }
+        };
+        window.addEventHandler(WindowEvent.WINDOW_HIDDEN, handler);
+        add(() -> window.removeEventHandler(WindowEvent.WINDOW_HIDDEN, handler));
+        return this;
+    }
+}
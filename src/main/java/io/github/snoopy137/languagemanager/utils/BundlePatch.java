@@ -0,0 +1,233 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * A set of key upserts and deletions against a versioned language pack,
+ * applied live through {@link Language#applyPatch(BundlePatch)}.
+ * <p>
+ * The version of a pack is its {@value #VERSION_KEY} entry ({@code 0} when
+ * absent). A patch only applies to a pack at its base version, and moves the
+ * pack to its target version, so patches must be applied in sequence. The
+ * text format is line based:
+ * </p>
+ * <pre>
+ * # comments and blank lines are ignored
+ * &#64;base 41
+ * &#64;version 42
+ * &#64;locale es-AR
+ * +menu.file=Archivo
+ * +greeting=Hola\n{0}
+ * -legacy.banner
+ * </pre>
+ * <p>
+ * {@code @locale} is optional and defaults to the active locale. Values
+ * support the {@code \n}, {@code \t}, {@code \\} and {@code \}{@code uXXXX}
+ * escapes of {@code .properties} files. Leading whitespace of a line is
+ * ignored, trailing whitespace belongs to the value.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+public final class BundlePatch {
+
+    /**
+     * The bundle key holding the version of a language pack.
+     */
+    public static final String VERSION_KEY = "@version";
+
+    private final long baseVersion;
+    private final long version;
+    private final Locale locale;
+    private final Map<String, String> upserts;
+    private final Set<String> removals;
+
+    private BundlePatch(long baseVersion, long version, Locale locale, Map<String, String> upserts, Set<String> removals) {
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.locale = locale;
+        this.upserts = Collections.unmodifiableMap(upserts);
+        this.removals = Collections.unmodifiableSet(removals);
+    }
+
+    /**
+     * Parses a patch.
+     *
+     * @param reader the patch text
+     * @return the parsed patch
+     * @throws IOException if the text cannot be read
+     * @throws IllegalArgumentException if the text is not a valid patch
+     */
+    public static BundlePatch parse(Reader reader) throws IOException {
+        Long base = null;
+        Long target = null;
+        Locale locale = null;
+        Map<String, String> upserts = new LinkedHashMap<>();
+        Set<String> removals = new LinkedHashSet<>();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        int number = 0;
+        for (String line; (line = lines.readLine()) != null; ) {
+            number++;
+            line = line.stripLeading();
+            if (line.isBlank() || line.startsWith("#")) continue;
+            switch (line.charAt(0)) {
+                case '@' -> {
+                    String[] header = line.substring(1).split("\\s+", 2);
+                    if (header.length < 2) throw invalid(number, "header without value");
+                    switch (header[0]) {
+                        case "base" -> base = parseVersion(header[1], number);
+                        case "version" -> target = parseVersion(header[1], number);
+                        case "locale" -> locale = Locale.forLanguageTag(header[1].strip().replace('_', '-'));
+                        default -> throw invalid(number, "unknown header '@" + header[0] + "'");
+                    }
+                }
+                case '+' -> {
+                    int eq = line.indexOf('=');
+                    if (eq <= 1) throw invalid(number, "upsert without key");
+                    String key = line.substring(1, eq).strip();
+                    removals.remove(key);
+                    upserts.put(key, unescape(line.substring(eq + 1), number));
+                }
+                case '-' -> {
+                    String key = line.substring(1).strip();
+                    if (key.isEmpty()) throw invalid(number, "deletion without key");
+                    upserts.remove(key);
+                    removals.add(key);
+                }
+                default -> throw invalid(number, "expected '@', '+' or '-'");
+            }
+        }
+        if (base == null || target == null) {
+            throw new IllegalArgumentException("Patch must declare @base and @version");
+        }
+        return new BundlePatch(base, target, locale, upserts, removals);
+    }
+
+    /**
+     * Parses a patch held in a string.
+     *
+     * @param text the patch text
+     * @return the parsed patch
+     * @throws IllegalArgumentException if the text is not a valid patch
+     * @see #parse(Reader)
+     */
+    public static BundlePatch parse(String text) {
+        try {
+            return parse(new StringReader(text));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the pack version this patch applies to.
+     *
+     * @return the base version
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Returns the pack version after this patch is applied.
+     *
+     * @return the target version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the locale this patch targets.
+     *
+     * @return the locale, or {@code null} for the active locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the entries added or replaced by this patch.
+     *
+     * @return the upserts, in patch order
+     */
+    public Map<String, String> getUpserts() {
+        return upserts;
+    }
+
+    /**
+     * Returns the keys deleted by this patch.
+     *
+     * @return the deleted keys, in patch order
+     */
+    public Set<String> getRemovals() {
+        return removals;
+    }
+
+    /**
+     * Returns the version of a pack, read from its {@value #VERSION_KEY}
+     * entry.
+     */
+    static long versionOf(ResourceBundle bundle) {
+        if (!bundle.containsKey(VERSION_KEY)) return 0;
+        try {
+            return Long.parseLong(bundle.getString(VERSION_KEY).strip());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long parseVersion(String value, int line) {
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            throw invalid(line, "invalid version '" + value + "'");
+        }
+    }
+
+    private static IllegalArgumentException invalid(int line, String reason) {
+        return new IllegalArgumentException("Invalid patch at line " + line + ": " + reason);
+    }
+
+    private static String unescape(String value, int line) {
+        if (value.indexOf('\\') < 0) return value;
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                out.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            switch (next) {
+                case 'n' -> out.append('\n');
+                case 't' -> out.append('\t');
+                case 'r' -> out.append('\r');
+                case 'u' -> {
+                    if (i + 4 >= value.length()) throw invalid(line, "truncated \\u escape");
+                    int code = 0;
+                    for (int end = i + 4; i < end; ) {
+                        int digit = Character.digit(value.charAt(++i), 16);
+                        if (digit < 0) throw invalid(line, "malformed \\u escape");
+                        code = code << 4 | digit;
+                    }
+                    out.append((char) code);
+                }
+                default -> out.append(next);
+            }
+        }
+        return out.toString();
+    }
+}
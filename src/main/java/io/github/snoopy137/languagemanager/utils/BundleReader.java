@@ -0,0 +1,99 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+
+/**
+ * Reads the entries and localized keys of one bundle while a locale and its
+ * fallback chain are resolved.
+ * <p>
+ * Every locale is read at most once per reader, so a chain asks a slow
+ * {@link BundleSource} for each of its locales, and for the default bundle,
+ * only once however many locales of the chain need them.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class BundleReader {
+
+    private final String name;
+    private final BundleSource source;
+    private final Map<Locale, Map<String, Object>> entries = new HashMap<>();
+
+    private BundleReader(String name, BundleSource source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    /**
+     * Returns a reader for a classpath or compiled bundle.
+     *
+     * @param name the base name of the bundle
+     * @return the reader
+     */
+    static BundleReader classpath(String name) {
+        return new BundleReader(name, null);
+    }
+
+    /**
+     * Returns a reader for the main bundle, loaded from the given source, or
+     * from the classpath if it is {@code null}.
+     *
+     * @param name the base name of the main bundle
+     * @param source the installed source, or {@code null}
+     * @return the reader
+     */
+    static BundleReader main(String name, BundleSource source) {
+        return new BundleReader(name, source);
+    }
+
+    /**
+     * Remembers entries that were already loaded, so they are not read again.
+     */
+    void loaded(Locale locale, Map<String, Object> loaded) {
+        entries.put(locale, loaded);
+    }
+
+    /**
+     * Returns the entries of a locale, including its parent locales.
+     *
+     * @throws MissingResourceException if the bundle cannot be found
+     */
+    Map<String, Object> entries(Locale locale) {
+        Map<String, Object> cached = entries.get(locale);
+        if (cached != null) return cached;
+        Map<String, Object> read = source != null ? Language.join(source.load(locale), source, locale)
+                : Language.entriesFor(name, locale);
+        entries.put(locale, read);
+        return read;
+    }
+
+    /**
+     * Returns the keys the bundles of a locale and its parent locales define,
+     * other than the default bundle. Sources that cannot tell fall back to
+     * the keys whose value differs from the default bundle.
+     *
+     * @throws MissingResourceException if the bundle cannot be found
+     */
+    Set<String> localizedKeys(Locale locale) {
+        if (source == null) return Language.localizedKeysFor(name, locale);
+        Set<String> keys = Language.join(source.localizedKeys(locale), source, locale);
+        if (keys != null) return keys;
+        Map<String, Object> defaults;
+        try {
+            defaults = entries(Locale.ROOT);
+        } catch (MissingResourceException e) {
+            defaults = Map.of();
+        }
+        keys = new HashSet<>();
+        for (Map.Entry<String, Object> entry : entries(locale).entrySet()) {
+            if (!entry.getValue().equals(defaults.get(entry.getKey()))) keys.add(entry.getKey());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Supplies the translations of the main bundle for a locale.
+ * <p>
+ * By default {@link Language} reads classpath {@code .properties} files (see
+ * {@link ClasspathBundleSource}). Installing another source through
+ * {@link Language#setBundleSource(BundleSource)} lets translations come from
+ * a directory on disk ({@link FileSystemBundleSource}), a local database, JSON
+ * files or a remote service.
+ * </p>
+ *
+ * <p>
+ * Loading is asynchronous: a source returns a future and may do its I/O on
+ * any thread. {@link Language} caches every loaded locale, so each source is
+ * asked at most once per locale until the cache is cleared. A locale with a
+ * fallback chain also reads the locales of its chain, and the default bundle
+ * if {@link #localizedKeys(Locale)} is not overridden, once each when it is
+ * loaded. Use
+ * {@link Language#setLocaleAsync(Locale)} or {@link Language#prewarm(Locale...)}
+ * to keep a slow source off the FX thread.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface BundleSource {
+
+    /**
+     * Loads the entries for the given locale, already merged with its parent
+     * locales (e.g. {@code es_AR} includes the keys of {@code es} and of the
+     * default bundle that it does not override).
+     *
+     * @param locale the locale to load
+     * @return a future completing with the entries, or exceptionally with a
+     * {@link java.util.MissingResourceException} if the source has no
+     * translations for the locale
+     */
+    CompletableFuture<Map<String, Object>> load(Locale locale);
+
+    /**
+     * Returns the keys the given locale or its parent locales define
+     * themselves, leaving out keys only the default bundle defines. A
+     * fallback chain set through
+     * {@link Language#setFallbackChain(Locale, Locale...)} fills in every
+     * other key.
+     * <p>
+     * The entries of {@link #load(Locale)} do not say where a value comes
+     * from, so by default this completes with {@code null}, and a key counts
+     * as localized when its value differs from the one in
+     * {@code load(Locale.ROOT)}, reusing the entries already loaded. A
+     * translation that matches the default text is then taken for a missing
+     * one. Sources that know their individual files should override this
+     * method.
+     * </p>
+     *
+     * @param locale the locale to inspect
+     * @return a future completing with the localized keys, or with
+     * {@code null} if the source cannot tell them, or exceptionally like
+     * {@link #load(Locale)}
+     */
+    default CompletableFuture<Set<String>> localizedKeys(Locale locale) {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link BundleSource} reading {@code .properties} files from the classpath,
+ * or the compiled bundles registered through
+ * {@link Language#registerCompiledBundles(CompiledBundle...)}. This is what
+ * {@link Language} uses when no other source is installed.
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+public class ClasspathBundleSource implements BundleSource {
+
+    private final String baseName;
+    private final Executor executor;
+
+    /**
+     * Creates a source for the given base name, loading on the common
+     * fork-join pool.
+     *
+     * @param baseName the base name of the bundle (e.g. {@code "language"})
+     */
+    public ClasspathBundleSource(String baseName) {
+        this(baseName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a source for the given base name, loading on the given executor.
+     *
+     * @param baseName the base name of the bundle
+     * @param executor the executor the bundles are read on
+     */
+    public ClasspathBundleSource(String baseName, Executor executor) {
+        this.baseName = baseName;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> load(Locale locale) {
+        return CompletableFuture.supplyAsync(() -> Language.entriesFor(baseName, locale), executor);
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> localizedKeys(Locale locale) {
+        return CompletableFuture.supplyAsync(() -> Language.localizedKeysFor(baseName, locale), executor);
+    }
+
+    @Override
+    public String toString() {
+        return "classpath:" + baseName;
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class of the bundle classes generated at build time by
+ * {@link io.github.snoopy137.languagemanager.tools.BundleCompiler}.
+ * <p>
+ * A compiled bundle holds the keys and values of one {@code .properties} file
+ * as constant arrays. Once registered through
+ * {@link Language#registerCompiledBundles(CompiledBundle...)}, it is used
+ * instead of {@code ResourceBundle.getBundle}, so loading a locale does no
+ * resource I/O, no parsing and no reflection. This also removes the need for
+ * resource and reflection configuration in native images.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+public abstract class CompiledBundle {
+
+    private final String baseName;
+    private final Locale locale;
+    private final String[] keys;
+    private final String[] values;
+
+    /**
+     * Creates a compiled bundle.
+     *
+     * @param baseName the base name of the bundle (e.g. {@code "language"})
+     * @param languageTag the IETF language tag of the locale, or an empty
+     * string for the default bundle
+     * @param keys the keys, in the same order as {@code values}
+     * @param values the translated values
+     */
+    protected CompiledBundle(String baseName, String languageTag, String[] keys, String[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values of bundle '" + baseName + "' differ in length");
+        }
+        this.baseName = baseName;
+        this.locale = languageTag.isEmpty() ? Locale.ROOT : Locale.forLanguageTag(languageTag);
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns the base name of the bundle.
+     *
+     * @return the base name
+     */
+    public String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * Returns the locale of the bundle, {@link Locale#ROOT} for the default
+     * bundle.
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the number of entries in the bundle.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Copies the entries of this bundle into the given map, replacing existing
+     * entries with the same key.
+     */
+    void copyInto(Map<String, Object> target) {
+        for (int i = 0; i < keys.length; i++) {
+            target.put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Adds the keys of this bundle to the given set.
+     */
+    void copyKeysInto(Set<String> target) {
+        Collections.addAll(target, keys);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.scene.Node;
+
+/**
+ * A translation binding that defers updates while its content is hidden.
+ * <p>
+ * When the bundle or the key is patched while the binding is hidden, it keeps returning the
+ * previous translation and is only marked stale. As soon as every gate it
+ * depends on reports the content as shown again (a tab selected, a menu
+ * showing, a pane expanded), the binding is invalidated and translated with
+ * the current bundle. This way the cost of a locale switch depends on what is
+ * on screen.
+ * </p>
+ * <p>
+ * Gates are either given directly, or looked up once on the first deferred
+ * update by walking up from a node to the containers registered with
+ * {@link Language#deferContent(Node, ObservableBooleanValue)}.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class DeferredBinding extends StringBinding {
+
+    /**
+     * Key of the node property holding the gate of a deferred container.
+     */
+    static final Object GATE_KEY = new Object();
+
+    private final String owner;
+    private final Callable<String> translation;
+    private final ObservableIntegerValue revision;
+    private final Node node;
+    private List<ObservableBooleanValue> gates;
+    private boolean computed;
+    private ResourceBundle translated;
+    private int translatedRevision;
+    private String value;
+
+    DeferredBinding(String owner, Callable<String> translation, ObservableIntegerValue revision, ObservableBooleanValue shown) {
+        this(owner, translation, revision, null, List.of(shown));
+    }
+
+    DeferredBinding(String owner, Callable<String> translation, ObservableIntegerValue revision, Node node) {
+        this(owner, translation, revision, node, null);
+    }
+
+    private DeferredBinding(String owner, Callable<String> translation, ObservableIntegerValue revision, Node node,
+            List<ObservableBooleanValue> gates) {
+        this.owner = owner;
+        this.translation = translation;
+        this.revision = revision;
+        this.node = node;
+        this.gates = gates;
+        bind(Language.bundleProperty(), revision);
+        if (gates != null) {
+            gates.forEach(this::bind);
+        }
+    }
+
+    @Override
+    protected String computeValue() {
+        ResourceBundle bundle = Language.bundleProperty().get();
+        int current = revision.get();
+        if (computed && ((bundle == translated && current == translatedRevision) || isHidden())) {
+            return value;
+        }
+        try {
+            value = Language.evaluate(owner, translation);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        translated = bundle;
+        translatedRevision = current;
+        computed = true;
+        return value;
+    }
+
+    private boolean isHidden() {
+        if (gates == null) {
+            gates = resolveGates();
+            gates.forEach(this::bind);
+        }
+        for (ObservableBooleanValue gate : gates) {
+            if (!gate.get()) return true;
+        }
+        return false;
+    }
+
+    private List<ObservableBooleanValue> resolveGates() {
+        List<ObservableBooleanValue> resolved = new ArrayList<>(2);
+        for (Node n = node; n != null; n = n.getParent()) {
+            if (n.hasProperties() && n.getProperties().get(GATE_KEY) instanceof ObservableBooleanValue gate) {
+                resolved.add(gate);
+            }
+        }
+        return resolved;
+    }
+
+    @Override
+    public void dispose() {
+        unbind(Language.bundleProperty(), revision);
+        if (gates != null) {
+            gates.forEach(this::unbind);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link BundleSource} reading {@code .properties} files from a directory on
+ * disk, using the same file names as classpath bundles
+ * ({@code language.properties}, {@code language_es.properties},
+ * {@code language_es_AR.properties}, ...).
+ * <p>
+ * Files are read as UTF-8, falling back to ISO-8859-1, like
+ * {@link PropertyResourceBundle}. This allows translations to be updated
+ * without rebuilding the application; call {@link Language#clearCache()} to
+ * pick up changed files.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public class FileSystemBundleSource implements BundleSource {
+
+    private final Path directory;
+    private final String baseName;
+    private final Executor executor;
+
+    /**
+     * Creates a source reading the given base name from a directory, loading
+     * on the common fork-join pool.
+     *
+     * @param directory the directory containing the {@code .properties} files
+     * @param baseName the base name of the files (e.g. {@code "language"})
+     */
+    public FileSystemBundleSource(Path directory, String baseName) {
+        this(directory, baseName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a source reading the given base name from a directory, loading
+     * on the given executor.
+     *
+     * @param directory the directory containing the {@code .properties} files
+     * @param baseName the base name of the files
+     * @param executor the executor the files are read on
+     */
+    public FileSystemBundleSource(Path directory, String baseName, Executor executor) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> load(Locale locale) {
+        return CompletableFuture.supplyAsync(() -> read(locale), executor);
+    }
+
+    /**
+     * Reads the keys of the files of the locale and its parent locales,
+     * without the default file.
+     */
+    @Override
+    public CompletableFuture<Set<String>> localizedKeys(Locale locale) {
+        return CompletableFuture.supplyAsync(() -> {
+            ResourceBundle.Control control = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+            Set<String> keys = new HashSet<>();
+            for (Locale candidate : control.getCandidateLocales(baseName, locale)) {
+                if (candidate.equals(Locale.ROOT)) continue;
+                PropertyResourceBundle bundle = readFile(control, candidate);
+                if (bundle != null) keys.addAll(bundle.keySet());
+            }
+            return keys;
+        }, executor);
+    }
+
+    private Map<String, Object> read(Locale locale) {
+        ResourceBundle.Control control = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+        List<Locale> candidates = control.getCandidateLocales(baseName, locale);
+        Map<String, Object> entries = FlatBundle.mergeCandidates(candidates, candidate -> readFile(control, candidate),
+                bundle -> bundle.keySet().size(), (bundle, target) -> {
+                    for (String key : bundle.keySet()) {
+                        target.put(key, bundle.getObject(key));
+                    }
+                });
+        if (entries == null) {
+            throw new MissingResourceException("No bundle '" + baseName + "' in " + directory + " for locale " + locale,
+                    baseName, "");
+        }
+        log.debug("Read {} entries of '{}' for locale {} from {}", entries.size(), baseName, locale, directory);
+        return entries;
+    }
+
+    /**
+     * Reads the file of one candidate locale, without its parents.
+     *
+     * @return the bundle, or {@code null} if the locale has no file
+     */
+    private PropertyResourceBundle readFile(ResourceBundle.Control control, Locale candidate) {
+        Path file = directory.resolve(control.toBundleName(baseName, candidate) + ".properties");
+        if (!Files.isRegularFile(file)) return null;
+        try (InputStream in = Files.newInputStream(file)) {
+            return new PropertyResourceBundle(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "file:" + directory.resolve(baseName);
+    }
+}
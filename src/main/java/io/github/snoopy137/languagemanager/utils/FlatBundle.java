@@ -0,0 +1,121 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link ResourceBundle} holding the resolved entries of another bundle,
+ * including those inherited from its parent chain, in a single map.
+ * <p>
+ * Lookups never walk a parent chain, and all keys and values are drawn from a
+ * shared {@link StringPool}, so several resident locales share their common
+ * strings.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+class FlatBundle extends PatchableBundle {
+
+    private final Map<String, Object> entries;
+    private final Locale locale;
+
+    FlatBundle(Map<String, Object> entries, Locale locale) {
+        this.entries = entries;
+        this.locale = locale;
+    }
+
+    /**
+     * Collects the entries of the given bundle and its parents into a map.
+     *
+     * @param source the bundle to resolve
+     * @return the resolved entries
+     */
+    static Map<String, Object> entriesOf(ResourceBundle source) {
+        Set<String> keys = source.keySet();
+        Map<String, Object> entries = new HashMap<>(capacity(keys.size()));
+        for (String key : keys) {
+            entries.put(key, source.getObject(key));
+        }
+        return entries;
+    }
+
+    /**
+     * Merges the bundles of the candidate locales of a locale into one map,
+     * each locale overriding the keys of its parents.
+     *
+     * @param candidates the candidate locales, from the most specific one to
+     * {@code ROOT}, as returned by
+     * {@link ResourceBundle.Control#getCandidateLocales(String, Locale)}
+     * @param bundleOf returns the bundle of a candidate, or {@code null} if it
+     * has none
+     * @param size returns the number of entries of a bundle
+     * @param copy copies the entries of a bundle into the map
+     * @return the merged entries, or {@code null} if no candidate has a bundle
+     */
+    static <B> Map<String, Object> mergeCandidates(List<Locale> candidates, Function<Locale, B> bundleOf,
+            ToIntFunction<B> size, BiConsumer<B, Map<String, Object>> copy) {
+        Map<String, Object> entries = null;
+        // Candidates run from the most specific locale to ROOT, so apply them in reverse
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            B bundle = bundleOf.apply(candidates.get(i));
+            if (bundle == null) continue;
+            if (entries == null) entries = new HashMap<>(capacity(size.applyAsInt(bundle)));
+            copy.accept(bundle, entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Builds a flattened bundle from resolved entries, deduplicating every key
+     * and string value through the pool.
+     *
+     * @param source the resolved entries
+     * @param locale the locale of the bundle
+     * @param pool the pool shared by all resident bundles
+     * @return the flattened bundle
+     */
+    static FlatBundle of(Map<String, Object> source, Locale locale, StringPool pool) {
+        Map<String, Object> entries = new HashMap<>(capacity(source.size()));
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            entries.put(pool.intern(entry.getKey()), value instanceof String text ? pool.intern(text) : value);
+        }
+        return new FlatBundle(entries, locale);
+    }
+
+    /**
+     * Returns a {@code HashMap} capacity holding the given number of entries
+     * without rehashing.
+     */
+    static int capacity(int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+
+    @Override
+    protected Object resolvedObject(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    protected boolean containsResolvedKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    protected Set<String> resolvedKeySet() {
+        return entries.keySet();
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-locale formatters shared by the number, currency and date bindings of
+ * {@link Language}.
+ * <p>
+ * {@link DateTimeFormatter}s are immutable and cached once per style and
+ * locale. {@link NumberFormat}s are not thread-safe, so each thread keeps its
+ * own instance per locale; in practice this is a single set of formatters on
+ * the FX thread, however many cells are bound.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class Formatters {
+
+    private static final Map<DateKey, DateTimeFormatter> DATE_FORMATTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<NumberKey, NumberFormat>> NUMBER_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+    private Formatters() {
+    }
+
+    /**
+     * Formats a number with the plain number format of the locale.
+     */
+    static String number(Number value, Locale locale) {
+        return numberFormat(new NumberKey(false, locale, null)).format(value);
+    }
+
+    /**
+     * Formats an amount with the currency format of the locale, in the given
+     * currency or the locale's own currency if {@code null}.
+     */
+    static String currency(Number value, Locale locale, Currency currency) {
+        return numberFormat(new NumberKey(true, locale, currency)).format(value);
+    }
+
+    /**
+     * Formats a date, time or date-time with the localized format of the
+     * given style. Values without time fields are formatted as dates, values
+     * without date fields as times. An {@link Instant} is formatted as a
+     * date-time in the system default time zone.
+     *
+     * @throws IllegalArgumentException if the value has neither date nor
+     * time fields
+     */
+    static String date(TemporalAccessor value, FormatStyle style, Locale locale) {
+        if (value instanceof Instant instant) value = instant.atZone(ZoneId.systemDefault());
+        return DATE_FORMATTERS.computeIfAbsent(new DateKey(kindOf(value), style, locale), Formatters::dateFormatter)
+                .format(value);
+    }
+
+    private static NumberFormat numberFormat(NumberKey key) {
+        return NUMBER_FORMATS.get().computeIfAbsent(key, k -> {
+            if (!k.currency()) return NumberFormat.getNumberInstance(k.locale());
+            NumberFormat format = NumberFormat.getCurrencyInstance(k.locale());
+            if (k.code() != null) format.setCurrency(k.code());
+            return format;
+        });
+    }
+
+    private static DateTimeFormatter dateFormatter(DateKey key) {
+        DateTimeFormatter formatter = switch (key.kind()) {
+            case DATE -> DateTimeFormatter.ofLocalizedDate(key.style());
+            case TIME -> DateTimeFormatter.ofLocalizedTime(key.style());
+            case DATE_TIME -> DateTimeFormatter.ofLocalizedDateTime(key.style());
+        };
+        return formatter.withLocale(key.locale());
+    }
+
+    private static Kind kindOf(TemporalAccessor value) {
+        boolean date = value.isSupported(ChronoField.EPOCH_DAY);
+        boolean time = value.isSupported(ChronoField.NANO_OF_DAY);
+        if (!date && !time) {
+            throw new IllegalArgumentException("Cannot format " + value.getClass().getSimpleName() + " as a date or time");
+        }
+        if (date && time) return Kind.DATE_TIME;
+        return time ? Kind.TIME : Kind.DATE;
+    }
+
+    private enum Kind {
+        DATE, TIME, DATE_TIME
+    }
+
+    private record DateKey(Kind kind, FormatStyle style, Locale locale) {
+    }
+
+    private record NumberKey(boolean currency, Locale locale, Currency code) {
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.image.Image;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A shared, size-bounded cache of the localized images shown by
+ * {@link io.github.snoopy137.languagemanager.binding.ImageViewBinder}.
+ * <p>
+ * Images are loaded in the background and shared by URL, so many image views
+ * bound to the same key hold a single decoded image, and switching back to a
+ * recently used locale finds its images already decoded. Least recently used
+ * images are evicted once the decoded size of all cached images exceeds the
+ * maximum (32 MiB by default); views still showing an evicted image keep it.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public final class ImageCache {
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static long maxBytes = 32L * 1024 * 1024;
+    private static long bytes;
+
+    private ImageCache() {
+    }
+
+    /**
+     * Returns the image for a URL, starting to load it in the background if it
+     * is not cached.
+     *
+     * @param url the image URL, or a classpath path as accepted by
+     * {@link Image#Image(String)}
+     * @return the shared image, or {@code null} if {@code url} is {@code null},
+     * empty, not a valid URL, or failed to load right away
+     */
+    public static Image get(String url) {
+        if (url == null || url.isBlank()) return null;
+        synchronized (entries) {
+            Entry cached = entries.get(url);
+            if (cached != null) return cached.image;
+        }
+        Image image;
+        try {
+            image = new Image(url, true);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid localized image URL {}", url, e);
+            return null;
+        }
+        if (image.isError()) {
+            log.warn("Failed to load localized image {}", url, image.getException());
+            return null;
+        }
+        Entry entry = new Entry(image);
+        synchronized (entries) {
+            Entry raced = entries.putIfAbsent(url, entry);
+            if (raced != null) return raced.image;
+        }
+        if (image.getProgress() >= 1) {
+            loaded(url, entry);
+        } else {
+            image.progressProperty().addListener((obs, oldVal, newVal) -> {
+                if (newVal.doubleValue() >= 1) loaded(url, entry);
+            });
+        }
+        image.errorProperty().addListener((obs, oldVal, failed) -> {
+            if (failed) {
+                log.warn("Failed to load localized image {}", url, image.getException());
+                remove(url, entry);
+            }
+        });
+        // The load may have failed before the listener was added
+        if (image.isError()) remove(url, entry);
+        return image;
+    }
+
+    /**
+     * Sets the maximum decoded size of the cached images, evicting the least
+     * recently used ones if needed.
+     *
+     * @param size the maximum size in bytes
+     */
+    public static void setMaximumSize(long size) {
+        synchronized (entries) {
+            maxBytes = Math.max(0, size);
+            trim();
+        }
+    }
+
+    /**
+     * Returns the estimated decoded size of the cached images.
+     *
+     * @return the size in bytes
+     */
+    public static long size() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Drops every cached image.
+     */
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    private static void loaded(String url, Entry entry) {
+        if (entry.image.isError()) return;
+        synchronized (entries) {
+            if (entries.get(url) != entry || entry.bytes > 0) return;
+            // Decoded images are stored as 32-bit ARGB
+            entry.bytes = (long) entry.image.getWidth() * (long) entry.image.getHeight() * 4;
+            bytes += entry.bytes;
+            trim();
+        }
+    }
+
+    private static void remove(String url, Entry entry) {
+        synchronized (entries) {
+            if (entries.remove(url, entry)) bytes -= entry.bytes;
+        }
+    }
+
+    private static void trim() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            bytes -= entry.bytes;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Image image;
+        private long bytes;
+
+        private Entry(Image image) {
+            this.image = image;
+        }
+    }
+}
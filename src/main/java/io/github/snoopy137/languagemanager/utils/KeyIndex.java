@@ -0,0 +1,54 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The keys of one bundle in sorted order, answering prefix queries.
+ * <p>
+ * All keys sharing a prefix are adjacent in the sorted array, so a query
+ * binary-searches the first one and returns the run as a view of the array,
+ * without scanning or copying the other keys.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class KeyIndex {
+
+    private final String[] keys;
+    private final List<String> view;
+
+    private KeyIndex(String[] keys) {
+        this.keys = keys;
+        this.view = Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Builds the index of a set of keys.
+     *
+     * @param keys the keys to index
+     * @return the index
+     */
+    static KeyIndex of(Collection<String> keys) {
+        String[] sorted = keys.toArray(String[]::new);
+        Arrays.sort(sorted);
+        return new KeyIndex(sorted);
+    }
+
+    /**
+     * Returns the keys starting with a prefix.
+     *
+     * @param prefix the prefix, e.g. {@code "gender."}
+     * @return the matching keys in sorted order, as an unmodifiable view
+     */
+    List<String> withPrefix(String prefix) {
+        int from = Arrays.binarySearch(keys, prefix);
+        if (from < 0) from = -from - 1;
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(prefix)) to++;
+        return view.subList(from, to);
+    }
+}
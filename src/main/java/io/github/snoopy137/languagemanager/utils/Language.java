@@ -7,25 +7,65 @@ import io.github.snoopy137.languagemanager.binding.ComboBoxBinder;
 import io.github.snoopy137.languagemanager.binding.ContextMenuBinder;
 import io.github.snoopy137.languagemanager.binding.ControlBinder;
 import io.github.snoopy137.languagemanager.binding.HyperlinkBinder;
+import io.github.snoopy137.languagemanager.binding.ImageViewBinder;
 import io.github.snoopy137.languagemanager.binding.LabeledBinder;
 import io.github.snoopy137.languagemanager.binding.ListViewItemBinder;
 import io.github.snoopy137.languagemanager.binding.MenuBinder;
 import io.github.snoopy137.languagemanager.binding.MenuItemBinder;
 import io.github.snoopy137.languagemanager.binding.RadioButtonBinder;
 import io.github.snoopy137.languagemanager.binding.TabBinder;
+import io.github.snoopy137.languagemanager.binding.TextFlowBinder;
 import io.github.snoopy137.languagemanager.binding.TextInputBinder;
 import io.github.snoopy137.languagemanager.binding.TitledPaneBinder;
 import io.github.snoopy137.languagemanager.binding.TooltipBinder;
 import io.github.snoopy137.languagemanager.binding.TreeItemBinder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.ListResourceBundle;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.application.Platform;
+import javafx.beans.binding.Binding;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableStringValue;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -41,23 +81,74 @@ public class Language {
 
     private static final ObjectProperty<ResourceBundle> bundleProperty = new SimpleObjectProperty<>();
     private static String baseName = "language";
+    private static Locale locale;
+
+    private static final StringPool stringPool = new StringPool();
+    private static final Map<Locale, ResourceBundle> bundleCache = new ConcurrentHashMap<>();
+    private static StorageMode storageMode = StorageMode.HEAP;
+    private static int decodedCacheSize = 256;
+    private static volatile LocaleTable localeTable;
+    /**
+     * Keeps the bundles read here out of the JDK bundle cache, which would
+     * otherwise hold a second, on-heap copy of every value next to the
+     * resident bundle.
+     */
+    private static final ResourceBundle.Control UNCACHED = new ResourceBundle.Control() {
+        @Override
+        public long getTimeToLive(String baseName, Locale locale) {
+            return TTL_DONT_CACHE;
+        }
+    };
+    private static final List<ModuleBundle> moduleBundles = new CopyOnWriteArrayList<>();
+    private static final Map<String, Map<Locale, CompiledBundle>> compiledBundles = new ConcurrentHashMap<>();
+    private static volatile BundleSource bundleSource;
+    private static final AtomicLong localeRequests = new AtomicLong();
+    private static final Map<Locale, List<Locale>> fallbackChains = new ConcurrentHashMap<>();
+    private static volatile List<Locale> defaultFallbackChain = List.of();
+    private static final Map<String, IntegerProperty> keyRevisions = new ConcurrentHashMap<>();
+    private static final Object SORT_BY_COLLATION = new Object();
+    private static final Object ITEM_KEYS = new Object();
+    private static final Object POPULATE_FROM_KEYS = new Object();
+    private static final Map<Locale, Collator> collators = new ConcurrentHashMap<>();
+    private static final Map<Locale, Map<String, CollationKey>> collationKeys = new ConcurrentHashMap<>();
+    private static volatile SearchIndex searchIndex;
+    private static volatile Set<String> usedKeys;
+    private static volatile Consumer<String> linkHandler = href -> log.info("No link handler set, ignoring link '{}'", href);
+    private static volatile Set<String> trackedKeys = Set.of();
+    private static final AtomicBoolean searchEnabled = new AtomicBoolean();
+
+    private static final Set<String> namespaces = ConcurrentHashMap.newKeySet();
+    private static final Map<String, ResourceBundle> loadedShards = new ConcurrentHashMap<>();
+    private static final ResourceBundle MISSING_SHARD = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[0][];
+        }
+    };
+
+    private static volatile boolean deferHiddenContent;
+    private static final ThreadLocal<String> bindingOwner = new ThreadLocal<>();
+    private static final ThreadLocal<BindingScope> currentScope = new ThreadLocal<>();
+    static volatile LocaleSwitchProfiler.Recorder profilerRecorder;
 
     private static final List<ControlBinder> BINDERS = List.of(
+            new TitledPaneBinder(),
             new LabeledBinder(),
             new TextInputBinder(),
+            new MenuBinder(),
             new MenuItemBinder(),
             new TabBinder(),
             new TooltipBinder(),
-            new TitledPaneBinder(),
             new TreeItemBinder(),
             new ContextMenuBinder(),
             new CheckBoxBinder(),
             new RadioButtonBinder(),
             new HyperlinkBinder(),
-            new MenuBinder(),
             new ListViewItemBinder(),
             new ComboBoxBinder(),
-            new ChoiceBoxBinder()
+            new ChoiceBoxBinder(),
+            new ImageViewBinder(),
+            new TextFlowBinder()
     );
 
     /**
@@ -69,7 +160,7 @@ public class Language {
         ResourceBundle bundle = bundleProperty.get();
         if (bundle == null) {
             try {
-                bundle = ResourceBundle.getBundle(baseName, Locale.getDefault());
+                bundle = loadBundle(getLocale());
                 bundleProperty.set(bundle);
             } catch (MissingResourceException e) {
                 log.warn("""
@@ -81,6 +172,17 @@ public class Language {
         return bundle;
     }
 
+    /**
+     * Gets the locale currently used for translations. Until
+     * {@link #setLocale(Locale)} has been called successfully, this is the
+     * JVM default locale.
+     *
+     * @return the current locale.
+     */
+    public static Locale getLocale() {
+        return locale != null ? locale : Locale.getDefault();
+    }
+
     /**
      * Sets a custom base name for the resource bundle. Must be called before
      * setting the locale.
@@ -90,9 +192,590 @@ public class Language {
     public static void setBaseName(String name) {
         baseName = name;
         // Clear the cached bundle so it reloads
+        loadedShards.clear();
+        dropResidentBundles();
+        localeTable = null;
         bundleProperty.set(null);
     }
 
+    /**
+     * Returns the flattened bundle for the given locale, loading it on the
+     * first request. Loaded bundles stay resident until
+     * {@link #clearCache()} or {@link #setBaseName(String)} is called, and
+     * share their keys and values through a common deduplication pool.
+     */
+    private static ResourceBundle loadBundle(Locale locale) {
+        LocaleTable table = localeTable;
+        if (table != null) {
+            ResourceBundle column = table.column(locale);
+            if (column != null) return column;
+        }
+        return bundleCache.computeIfAbsent(locale, l -> {
+            ResourceBundle bundle = compact(resolve(l), l);
+            if (bundle instanceof PatchableBundle patchable) patchable.keyIndex();
+            return bundle;
+        });
+    }
+
+    /**
+     * Drops the resident bundles after a configuration change. Their strings
+     * leave the pool once the active bundle no longer references them, so the
+     * saved bytes are counted again from zero.
+     */
+    private static void dropResidentBundles() {
+        bundleCache.clear();
+        stringPool.resetSavings();
+    }
+
+    /**
+     * Loads the main bundle and every registered module bundle for the given
+     * locale and merges them into one map. Module bundles are loaded
+     * concurrently on the common fork-join pool, so the load costs about as
+     * much as the slowest bundle rather than the sum of all of them.
+     * <p>
+     * On conflicting keys the main bundle wins, followed by the module bundles
+     * in registration order. The main bundle comes from the installed
+     * {@link BundleSource}, if any, and is loaded concurrently with the module
+     * bundles.
+     * </p>
+     *
+     * @throws MissingResourceException if the main bundle cannot be found.
+     */
+    private static Map<String, Object> resolve(Locale locale) {
+        String mainName = baseName;
+        BundleSource source = bundleSource;
+        CompletableFuture<Map<String, Object>> pending = source != null ? source.load(locale) : null;
+        BundleReader reader = BundleReader.main(mainName, source);
+        if (moduleBundles.isEmpty()) {
+            return withFallbacks(locale, pending != null ? join(pending, source, locale) : entriesFor(mainName, locale), reader);
+        }
+        List<CompletableFuture<Map<String, Object>>> modules = new ArrayList<>();
+        for (ModuleBundle module : moduleBundles) {
+            modules.add(CompletableFuture.supplyAsync(() -> module.load(locale), ForkJoinPool.commonPool()));
+        }
+        Map<String, Object> main = withFallbacks(locale, pending != null ? join(pending, source, locale) : entriesFor(mainName, locale), reader);
+        Map<String, Object> merged = new HashMap<>(FlatBundle.capacity(main.size()));
+        for (int i = modules.size() - 1; i >= 0; i--) {
+            try {
+                merged.putAll(modules.get(i).join());
+            } catch (CompletionException e) {
+                log.warn("Failed to load module bundle '{}' for locale {}", moduleBundles.get(i).name(), locale, e.getCause());
+            }
+        }
+        merged.putAll(main);
+        return merged;
+    }
+
+    /**
+     * Merges the fallback chain of a locale into the resolved entries of one
+     * bundle. A key defined by a locale-specific file of the locale or its
+     * parents wins, even if its value matches the default bundle; otherwise
+     * the first fallback locale defining the key wins; keys nobody translates
+     * keep the value of the default bundle.
+     *
+     * @param entries the entries already loaded for the locale
+     * @param reader reads the other locales of the same bundle
+     */
+    private static Map<String, Object> withFallbacks(Locale locale, Map<String, Object> entries, BundleReader reader) {
+        List<Locale> chain = fallbackChainOf(locale);
+        if (chain.isEmpty()) return entries;
+        reader.loaded(locale, entries);
+        Map<String, Object> merged = new HashMap<>(entries);
+        Set<String> translated = new HashSet<>(reader.localizedKeys(locale));
+        List<Locale> candidates = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT)
+                .getCandidateLocales(baseName, locale);
+        for (Locale fallback : chain) {
+            if (candidates.contains(fallback)) continue;
+            Map<String, Object> fallbackEntries;
+            Set<String> fallbackKeys;
+            try {
+                fallbackEntries = reader.entries(fallback);
+                fallbackKeys = reader.localizedKeys(fallback);
+            } catch (MissingResourceException e) {
+                log.warn("Skipping fallback locale {} of {}, no resource bundle found", fallback, locale);
+                continue;
+            }
+            for (String key : fallbackKeys) {
+                Object value = fallbackEntries.get(key);
+                if (value != null && translated.add(key)) merged.put(key, value);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the fallback chain configured for the locale, for its language,
+     * or the default chain, in that order of preference.
+     */
+    private static List<Locale> fallbackChainOf(Locale locale) {
+        List<Locale> chain = fallbackChains.get(locale);
+        if (chain == null && !locale.getCountry().isEmpty()) chain = fallbackChains.get(new Locale(locale.getLanguage()));
+        return chain != null ? chain : defaultFallbackChain;
+    }
+
+    /**
+     * Sets the locales whose translations are used, in order, for keys the
+     * given locale does not translate, e.g. {@code es_AR} falling back to
+     * {@code es} and then {@code en}:
+     * <pre>
+     * Language.setFallbackChain(Locale.forLanguageTag("es-AR"), Locale.forLanguageTag("es"), Locale.ENGLISH);
+     * </pre>
+     * A chain set for a language (e.g. {@code es}) also applies to its
+     * countries unless they have their own. The chains are merged into the
+     * bundle when a locale is loaded, so a key translated by any locale of the
+     * chain is found by a single lookup and never reported as missing. They
+     * apply to the main bundle, the bundles added with
+     * {@link #addBaseName(String)} and the namespace shards alike, each
+     * falling back within its own files. Resident bundles are dropped so the
+     * chain applies from the next load.
+     *
+     * @param locale the locale the chain applies to.
+     * @param fallbacks the fallback locales, most preferred first; none to
+     * remove the chain.
+     */
+    public static void setFallbackChain(Locale locale, Locale... fallbacks) {
+        if (fallbacks.length == 0) {
+            fallbackChains.remove(locale);
+        } else {
+            fallbackChains.put(locale, List.of(fallbacks));
+        }
+        dropResidentBundles();
+        localeTable = null;
+    }
+
+    /**
+     * Sets the fallback chain of every locale without a chain of its own,
+     * e.g. {@code Locale.ENGLISH} to fill any untranslated key with English.
+     *
+     * @param fallbacks the fallback locales, most preferred first; none to
+     * remove the default chain.
+     * @see #setFallbackChain(Locale, Locale...)
+     */
+    public static void setDefaultFallbackChain(Locale... fallbacks) {
+        defaultFallbackChain = List.of(fallbacks);
+        dropResidentBundles();
+        localeTable = null;
+    }
+
+    /**
+     * Waits for a {@link BundleSource} load, reporting any failure as a
+     * {@link MissingResourceException} like a missing classpath bundle.
+     */
+    static <T> T join(CompletableFuture<T> pending, BundleSource source, Locale locale) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MissingResourceException missing) throw missing;
+            MissingResourceException missing = new MissingResourceException(
+                    "Failed to load bundle from " + source + " for locale " + locale, String.valueOf(source), "");
+            missing.initCause(e.getCause());
+            throw missing;
+        }
+    }
+
+    /**
+     * Resolves the entries of one base name for the given locale, including
+     * its parent locales. Compiled bundles registered through
+     * {@link #registerCompiledBundles(CompiledBundle...)} are used when
+     * available; otherwise the bundle is read with
+     * {@code ResourceBundle.getBundle}.
+     */
+    static Map<String, Object> entriesFor(String name, Locale locale) {
+        Map<Locale, CompiledBundle> compiled = compiledBundles.get(name);
+        if (compiled != null) {
+            List<Locale> candidates = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT)
+                    .getCandidateLocales(name, locale);
+            Map<String, Object> entries = FlatBundle.mergeCandidates(candidates, compiled::get,
+                    CompiledBundle::size, CompiledBundle::copyInto);
+            if (entries != null) return entries;
+        }
+        return FlatBundle.entriesOf(ResourceBundle.getBundle(name, locale, UNCACHED));
+    }
+
+    /**
+     * Returns the keys one base name defines for the given locale and its
+     * parent locales, other than in the default bundle. Like
+     * {@link #entriesFor(String, Locale)}, compiled bundles are used when
+     * available; otherwise each candidate bundle is read on its own, without
+     * its parents.
+     */
+    static Set<String> localizedKeysFor(String name, Locale locale) {
+        List<Locale> candidates = UNCACHED.getCandidateLocales(name, locale);
+        Set<String> keys = new HashSet<>();
+        Map<Locale, CompiledBundle> compiled = compiledBundles.get(name);
+        if (compiled != null && candidates.stream().anyMatch(compiled::containsKey)) {
+            for (Locale candidate : candidates) {
+                CompiledBundle bundle = compiled.get(candidate);
+                if (bundle != null && !candidate.equals(Locale.ROOT)) bundle.copyKeysInto(keys);
+            }
+            return keys;
+        }
+        ClassLoader loader = Language.class.getClassLoader();
+        for (Locale candidate : candidates) {
+            if (candidate.equals(Locale.ROOT)) continue;
+            for (String format : UNCACHED.getFormats(name)) {
+                ResourceBundle bundle;
+                try {
+                    bundle = UNCACHED.newBundle(name, candidate, format, loader, false);
+                } catch (ReflectiveOperationException | IOException e) {
+                    log.warn("Failed to read bundle '{}' for locale {}", name, candidate, e);
+                    continue;
+                }
+                if (bundle != null) {
+                    keys.addAll(bundle.keySet());
+                    break;
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Registers bundles compiled at build time by
+     * {@link io.github.snoopy137.languagemanager.tools.BundleCompiler}. The
+     * generated {@code install()} method calls this with every compiled
+     * bundle. From then on, locales are loaded from the compiled constant
+     * arrays instead of parsing {@code .properties} files.
+     *
+     * @param bundles the compiled bundles to register.
+     */
+    public static void registerCompiledBundles(CompiledBundle... bundles) {
+        for (CompiledBundle bundle : bundles) {
+            compiledBundles.computeIfAbsent(bundle.getBaseName(), name -> new ConcurrentHashMap<>())
+                    .put(bundle.getLocale(), bundle);
+        }
+        dropResidentBundles();
+        loadedShards.clear();
+        log.debug("Registered {} compiled bundle(s)", bundles.length);
+    }
+
+    /**
+     * Converts resolved entries into the resident representation selected by
+     * the current {@link StorageMode}.
+     */
+    private static ResourceBundle compact(Map<String, Object> entries, Locale locale) {
+        if (storageMode == StorageMode.OFF_HEAP) {
+            return OffHeapBundle.of(entries, locale, stringPool, decodedCacheSize);
+        }
+        return FlatBundle.of(entries, locale, stringPool);
+    }
+
+    /**
+     * Registers an additional base name, e.g. the bundle of a feature module,
+     * whose keys are merged into the same namespace as the main bundle.
+     * <p>
+     * All registered bundles are loaded in parallel on every locale change and
+     * merged into one lookup structure. On conflicting keys the main bundle
+     * (see {@link #setBaseName(String)}) wins, followed by the additional base
+     * names in registration order. Resident bundles are dropped so the new
+     * module is included on the next load.
+     * </p>
+     *
+     * @param name the base name of the module bundle (e.g. {@code "billing"}).
+     */
+    public static void addBaseName(String name) {
+        addBaseName(name, null);
+    }
+
+    /**
+     * Registers an additional base name whose keys are merged into the main
+     * namespace under the given prefix. With the prefix {@code "billing"}, the
+     * key {@code invoice.title} of the module bundle is available as
+     * {@code billing.invoice.title}.
+     *
+     * @param name the base name of the module bundle.
+     * @param prefix the prefix prepended to its keys, or {@code null} to merge
+     * them unprefixed.
+     * @see #addBaseName(String)
+     */
+    public static void addBaseName(String name, String prefix) {
+        moduleBundles.add(new ModuleBundle(name, prefix == null || prefix.isEmpty() ? null : prefix + "."));
+        dropResidentBundles();
+        localeTable = null;
+    }
+
+    /**
+     * Removes a base name registered with {@link #addBaseName(String)}.
+     *
+     * @param name the base name to remove.
+     */
+    public static void removeBaseName(String name) {
+        if (moduleBundles.removeIf(module -> module.name().equals(name))) {
+            dropResidentBundles();
+            localeTable = null;
+        }
+    }
+
+    /**
+     * Installs the source the main bundle is loaded from, replacing the
+     * classpath {@code .properties} files named by
+     * {@link #setBaseName(String)}. Module bundles and namespace shards are
+     * still read from the classpath.
+     * <p>
+     * Every locale is requested from the source once and then kept resident,
+     * like classpath bundles. Resident bundles are dropped, so the new source
+     * is used from the next {@link #setLocale(Locale)} on. Because
+     * {@code setLocale} waits for the load, prefer
+     * {@link #setLocaleAsync(Locale)} or {@link #prewarm(Locale...)} with slow
+     * sources.
+     * </p>
+     *
+     * @param source the bundle source, or {@code null} to read the classpath
+     * again.
+     * @see FileSystemBundleSource
+     */
+    public static void setBundleSource(BundleSource source) {
+        bundleSource = source;
+        dropResidentBundles();
+        loadedShards.clear();
+        localeTable = null;
+        log.info("Bundle source set to {}", source != null ? source : new ClasspathBundleSource(baseName));
+    }
+
+    /**
+     * An additional bundle merged into the main namespace, optionally under a
+     * key prefix.
+     */
+    private record ModuleBundle(String name, String prefix) {
+
+        Map<String, Object> load(Locale locale) {
+            Map<String, Object> entries = withFallbacks(locale, entriesFor(name, locale), BundleReader.classpath(name));
+            if (prefix == null) return entries;
+            Map<String, Object> prefixed = new HashMap<>(FlatBundle.capacity(entries.size()));
+            entries.forEach((key, value) -> prefixed.put(prefix + key, value));
+            return prefixed;
+        }
+    }
+
+    /**
+     * Loads the given locales into a single keys &times; locales table, with
+     * one key id shared by all locales and one value column per locale.
+     * <p>
+     * This is meant for applications that toggle constantly between a few
+     * languages: once the table is loaded, {@link #setLocale(Locale)} to one
+     * of these locales only switches the active column, and bindings read the
+     * new column without loading or rebuilding any bundle. Other locales are
+     * still loaded as usual. Calling this method again replaces the previous
+     * table.
+     * </p>
+     * <p>
+     * The table always keeps its values on the heap, whatever the
+     * {@link #setStorageMode(StorageMode) storage mode}: it trades memory for
+     * switching speed, so only load the few locales that are toggled often.
+     * </p>
+     *
+     * @param locales the locales to load into the table.
+     */
+    public static void loadLocaleTable(Locale... locales) {
+        List<Locale> loaded = new ArrayList<>();
+        List<Map<String, Object>> bundles = new ArrayList<>();
+        for (Locale l : locales) {
+            try {
+                bundles.add(resolve(l));
+                loaded.add(l);
+            } catch (MissingResourceException e) {
+                log.warn("Skipping locale {} in locale table, no resource bundle found", l);
+            }
+        }
+        localeTable = LocaleTable.of(loaded, bundles, stringPool);
+        for (Locale l : loaded) {
+            bundleCache.remove(l);
+        }
+        log.info("Loaded locale table for {}", loaded);
+    }
+
+    /**
+     * Drops the table built by {@link #loadLocaleTable(Locale...)}. Its locales
+     * are loaded as separate bundles again on their next use.
+     */
+    public static void clearLocaleTable() {
+        localeTable = null;
+    }
+
+    /**
+     * Selects how the values of resident bundles are stored. Switching the
+     * mode drops the resident bundles; the active locale is reloaded in the
+     * new mode on the next {@link #setLocale(Locale)} or
+     * {@link #getBundle()} call.
+     *
+     * @param mode the storage mode, {@link StorageMode#HEAP} by default.
+     */
+    public static void setStorageMode(StorageMode mode) {
+        if (mode == storageMode) return;
+        storageMode = mode;
+        dropResidentBundles();
+        loadedShards.clear();
+        log.info("Bundle storage mode set to {}", mode);
+    }
+
+    /**
+     * Sets how many decoded values each off-heap bundle keeps in its LRU
+     * cache. Only affects bundles loaded afterwards in
+     * {@link StorageMode#OFF_HEAP} mode.
+     *
+     * @param size the maximum number of decoded strings per bundle.
+     */
+    public static void setDecodedCacheSize(int size) {
+        decodedCacheSize = Math.max(1, size);
+    }
+
+    /**
+     * Starts loading the bundle of the current locale, plus any extra locales,
+     * on a background thread.
+     * <p>
+     * Call this from {@code Application.init()} or {@code main} so that the
+     * bundle is loaded and flattened in parallel with scene construction
+     * instead of on the FX thread during FXML loading. The first
+     * {@link #getBundle()} or {@code bind} call only waits for the prewarm if
+     * it has not finished yet; the loaded bundles are published on the calling
+     * thread, so no listener is ever notified from the background thread.
+     * </p>
+     *
+     * @param extraLocales additional locales to load after the current one,
+     * e.g. the languages the user is likely to switch to.
+     * @return a future completing once all bundles are loaded. Missing
+     * bundles are logged and skipped; any other failure, such as a malformed
+     * bundle or a failing {@link BundleSource}, stops the prewarm and
+     * completes the future exceptionally.
+     */
+    public static CompletableFuture<Void> prewarm(Locale... extraLocales) {
+        Locale current = getLocale();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                long start = System.nanoTime();
+                prewarmLocale(current);
+                for (Locale extra : extraLocales) {
+                    prewarmLocale(extra);
+                }
+                log.debug("Prewarmed {} locale(s) in {} ms", extraLocales.length + 1, (System.nanoTime() - start) / 1_000_000);
+                done.complete(null);
+            } catch (Throwable e) {
+                log.error("Failed to prewarm resource bundles", e);
+                done.completeExceptionally(e);
+            }
+        }, "language-prewarm");
+        thread.setDaemon(true);
+        thread.start();
+        return done;
+    }
+
+    private static void prewarmLocale(Locale l) {
+        try {
+            // A concurrent getBundle() for the same locale blocks on the cache
+            // entry until this load completes instead of loading it again.
+            LocaleAssets.of(loadBundle(l)).loadFonts();
+        } catch (MissingResourceException e) {
+            log.warn("Failed to prewarm resource bundle for locale: {}", l);
+        }
+    }
+
+    /**
+     * Returns the estimated number of heap bytes saved by sharing identical
+     * keys and values between the resident bundles, instead of every locale
+     * holding its own copies. Counted from the last time the resident bundles
+     * were dropped, by {@link #clearCache()} or a configuration change.
+     *
+     * @return the estimated saved bytes.
+     */
+    public static long getDedupBytesSaved() {
+        return stringPool.bytesSaved();
+    }
+
+    /**
+     * Drops every resident bundle except the active one and resets the
+     * deduplication pool and the cached collation keys. Bundles are loaded
+     * again on their next use.
+     */
+    public static void clearCache() {
+        bundleCache.clear();
+        loadedShards.clear();
+        stringPool.clear();
+        collationKeys.clear();
+        ResourceBundle active = bundleProperty.get();
+        if (active != null) {
+            bundleCache.put(getLocale(), active);
+        }
+    }
+
+    /**
+     * Registers a namespace whose keys are stored in their own shard of the
+     * resource bundle instead of the main file.
+     * <p>
+     * Keys starting with {@code namespace + "."} are looked up in the bundle
+     * {@code <baseName>-<namespace>}, e.g. {@code language-settings.properties}
+     * and {@code language-settings_es.properties} for the namespace
+     * {@code settings}. A shard is loaded the first time one of its keys is
+     * looked up, so sessions that never open a screen do not pay for its
+     * translations. If no shard file exists, the keys are looked up in the
+     * main bundle as usual.
+     * </p>
+     *
+     * @param namespace the first segment of the keys stored in the shard (e.g.
+     * {@code "settings"} for {@code settings.*}).
+     */
+    public static void addNamespace(String namespace) {
+        namespaces.add(namespace);
+    }
+
+    /**
+     * Drops the loaded shard of a namespace so its memory can be reclaimed. The
+     * shard is loaded again on the next lookup of one of its keys.
+     *
+     * @param namespace the namespace to evict.
+     */
+    public static void evictNamespace(String namespace) {
+        if (loadedShards.remove(namespace) != null) {
+            log.debug("Evicted namespace '{}'", namespace);
+        }
+    }
+
+    /**
+     * Drops the loaded shards of all namespaces.
+     */
+    public static void evictNamespaces() {
+        loadedShards.clear();
+    }
+
+    /**
+     * Looks up a key in its namespace shard, if any, or in the given bundle.
+     *
+     * @return the translated value, or {@code null} if the key is missing.
+     */
+    private static String lookup(ResourceBundle bundle, String key) {
+        recordUsage(key);
+        ResourceBundle shard = shardFor(key);
+        if (shard != null && shard.containsKey(key)) {
+            return shard.getString(key);
+        }
+        if (bundle != null && bundle.containsKey(key)) {
+            return bundle.getString(key);
+        }
+        return null;
+    }
+
+    private static ResourceBundle shardFor(String key) {
+        if (namespaces.isEmpty()) return null;
+        int dot = key.indexOf('.');
+        if (dot <= 0) return null;
+        String namespace = key.substring(0, dot);
+        if (!namespaces.contains(namespace)) return null;
+        ResourceBundle shard = loadedShards.computeIfAbsent(namespace, Language::loadShard);
+        return shard == MISSING_SHARD ? null : shard;
+    }
+
+    private static ResourceBundle loadShard(String namespace) {
+        String shardName = baseName + "-" + namespace;
+        try {
+            log.debug("Loading namespace shard '{}' for locale {}", shardName, getLocale());
+            Locale current = getLocale();
+            return compact(withFallbacks(current, entriesFor(shardName, current), BundleReader.classpath(shardName)), current);
+        } catch (MissingResourceException e) {
+            log.debug("No shard '{}' found, using the main bundle for namespace '{}'", shardName, namespace);
+            return MISSING_SHARD;
+        }
+    }
+
     /**
      * Gets the property object for the current resource bundle.
      *
@@ -115,17 +798,478 @@ public class Language {
      * property.
      */
     public static StringBinding bind(String key, String optional) {
-        if (bundleProperty.get() == null) return Bindings.createStringBinding(() -> key);
-        return Bindings.createStringBinding(() -> {
-            ResourceBundle bundle = bundleProperty.get();
-            if (bundle.containsKey(key)) {
+        if (getBundle() == null) return Bindings.createStringBinding(() -> key);
+        String owner = currentOwner("bind");
+        Callable<String> translation = translation(key, optional);
+        return track(Bindings.createStringBinding(() -> evaluate(owner, translation), bundleProperty, revision(key)));
+    }
+
+    private static Callable<String> translation(String key, String optional) {
+        return () -> {
+            String value = lookup(bundleProperty.get(), key);
+            if (value != null) {
                 log.debug("Found key '{}' in bundle", key);
-                return bundle.getString(key);
+                return value;
             } else {
                 log.warn("Missing key '{}' in resource bundle", key);
                 return optional;  // Returning the original text property itself in case of missing translation
             }
-        }, bundleProperty);
+        };
+    }
+
+    /**
+     * Returns the revision counter of a bound key, bumped by
+     * {@link #applyPatch(BundlePatch)} when the key changes. Bindings depend
+     * on it in addition to {@link #bundleProperty()}, so a patch only
+     * invalidates the bindings of the keys it touches.
+     */
+    private static IntegerProperty revision(String key) {
+        return keyRevisions.computeIfAbsent(key, k -> new SimpleIntegerProperty());
+    }
+
+    /**
+     * Bumps the revision of a patched key and of its parent key, which is the
+     * base key of plural and select bindings (e.g. {@code files} for
+     * {@code files.one}). Keys nobody is bound to have no revision and are
+     * skipped.
+     */
+    private static void bumpRevision(String key) {
+        IntegerProperty revision = keyRevisions.get(key);
+        if (revision != null) revision.set(revision.get() + 1);
+        int dot = key.lastIndexOf('.');
+        if (dot > 0) {
+            IntegerProperty parent = keyRevisions.get(key.substring(0, dot));
+            if (parent != null) parent.set(parent.get() + 1);
+        }
+    }
+
+    /**
+     * Applies a delta patch in place to the resident bundle of its locale,
+     * without reloading the language pack. Only the bindings of the patched
+     * keys are updated; item lists of the built-in binders pick up the changes
+     * on the next locale switch.
+     * <p>
+     * The patch is rejected when its base version does not match the version
+     * of the resident pack (see {@link BundlePatch#VERSION_KEY}), e.g. because
+     * an earlier patch is missing; reload the full pack in that case. Patches
+     * live as long as the resident bundle, so they are lost when the bundle is
+     * dropped by {@link #clearCache()} or a configuration change.
+     * Must be called on the JavaFX application thread when the patch targets
+     * the active locale.
+     * </p>
+     *
+     * @param patch the patch to apply.
+     * @return {@code true} if the patch was applied, {@code false} if its
+     * locale is not resident or its base version does not match.
+     */
+    public static boolean applyPatch(BundlePatch patch) {
+        Locale target = patch.getLocale() != null ? patch.getLocale() : getLocale();
+        boolean active = target.equals(getLocale());
+        ResourceBundle bundle = active ? bundleProperty.get() : residentBundle(target);
+        if (!(bundle instanceof PatchableBundle patchable)) {
+            log.warn("Cannot apply patch to locale {}, its bundle is not loaded", target);
+            return false;
+        }
+        long version = BundlePatch.versionOf(bundle);
+        if (version != patch.getBaseVersion()) {
+            log.warn("Cannot apply patch {} -> {} to locale {} at version {}",
+                    patch.getBaseVersion(), patch.getVersion(), target, version);
+            return false;
+        }
+        Map<String, Object> upserts = new HashMap<>(patch.getUpserts());
+        upserts.put(BundlePatch.VERSION_KEY, Long.toString(patch.getVersion()));
+        patchable.patch(upserts, patch.getRemovals(), stringPool);
+        if (active) {
+            patchShards(upserts, patch.getRemovals());
+            upserts.keySet().forEach(Language::bumpRevision);
+            patch.getRemovals().forEach(Language::bumpRevision);
+        }
+        log.info("Applied patch {} -> {} to locale {} ({} upserts, {} removals)", patch.getBaseVersion(),
+                patch.getVersion(), target, patch.getUpserts().size(), patch.getRemovals().size());
+        return true;
+    }
+
+    /**
+     * Applies the part of a patch belonging to loaded namespace shards to the
+     * shards, since they take precedence over the main bundle on lookup.
+     */
+    private static void patchShards(Map<String, Object> upserts, Set<String> removals) {
+        if (loadedShards.isEmpty()) return;
+        for (Map.Entry<String, ResourceBundle> entry : loadedShards.entrySet()) {
+            if (!(entry.getValue() instanceof PatchableBundle shard)) continue;
+            String prefix = entry.getKey() + ".";
+            Map<String, Object> shardUpserts = new HashMap<>();
+            upserts.forEach((key, value) -> {
+                if (key.startsWith(prefix)) shardUpserts.put(key, value);
+            });
+            Set<String> shardRemovals = new HashSet<>();
+            for (String key : removals) {
+                if (key.startsWith(prefix)) shardRemovals.add(key);
+            }
+            if (!shardUpserts.isEmpty() || !shardRemovals.isEmpty()) {
+                shard.patch(shardUpserts, shardRemovals, stringPool);
+            }
+        }
+    }
+
+    private static ResourceBundle residentBundle(Locale locale) {
+        LocaleTable table = localeTable;
+        ResourceBundle resident = table != null ? table.column(locale) : null;
+        return resident != null ? resident : bundleCache.get(locale);
+    }
+
+    /**
+     * Enables or disables deferred translation of hidden content. When
+     * enabled, the binders for tabs, menus, context menus and titled panes
+     * mark the text of content nobody can see as stale on a locale switch
+     * (unselected tab content, menus that are not showing, collapsed panes)
+     * and translate it only when it is shown. Only affects bindings created
+     * afterwards, so enable it before binding the views.
+     *
+     * @param defer {@code true} to defer hidden content, {@code false} (the
+     * default) to update every binding immediately.
+     */
+    public static void setDeferHiddenContent(boolean defer) {
+        deferHiddenContent = defer;
+    }
+
+    /**
+     * Returns whether hidden content is translated lazily.
+     *
+     * @return {@code true} if deferred translation is enabled.
+     * @see #setDeferHiddenContent(boolean)
+     */
+    public static boolean isDeferHiddenContent() {
+        return deferHiddenContent;
+    }
+
+    /**
+     * Like {@link #bind(String, String)}, but while {@code shown} is
+     * {@code false} a locale switch only marks the binding stale; it is
+     * translated once {@code shown} becomes {@code true}. Falls back to a
+     * regular binding when deferred translation is disabled or {@code shown}
+     * is {@code null}.
+     *
+     * @param key the key to look up in the resource bundle.
+     * @param optional the text to use if the key is missing.
+     * @param shown whether the bound text is currently visible, e.g. a menu's
+     * {@code showingProperty()}.
+     * @return a `StringBinding` to bind to the UI element's text property.
+     */
+    public static StringBinding bindDeferred(String key, String optional, ObservableBooleanValue shown) {
+        if (!deferHiddenContent || shown == null || getBundle() == null) return bind(key, optional);
+        return track(new DeferredBinding(currentOwner("bindDeferred"), translation(key, optional), revision(key), shown));
+    }
+
+    /**
+     * Like {@link #bind(String, String)}, but a locale switch is deferred
+     * while {@code node} is inside a hidden container registered with
+     * {@link #deferContent(Node, ObservableBooleanValue)}. The containers are
+     * looked up once, on the first locale switch after binding. Falls back to
+     * a regular binding when deferred translation is disabled.
+     *
+     * @param key the key to look up in the resource bundle.
+     * @param optional the text to use if the key is missing.
+     * @param node the node displaying the text.
+     * @return a `StringBinding` to bind to the UI element's text property.
+     */
+    public static StringBinding bindDeferred(String key, String optional, Node node) {
+        if (!deferHiddenContent || node == null || getBundle() == null) return bind(key, optional);
+        return track(new DeferredBinding(currentOwner("bindDeferred"), translation(key, optional), revision(key), node));
+    }
+
+    /**
+     * Registers {@code content} as a container whose text only needs to be
+     * translated while {@code shown} is {@code true}, such as the content of a
+     * tab or of a titled pane. Text bound with
+     * {@link #bindDeferred(String, String, Node)} inside the container is
+     * translated when it is shown.
+     *
+     * @param content the root node of the container's content.
+     * @param shown whether the content is currently visible.
+     */
+    public static void deferContent(Node content, ObservableBooleanValue shown) {
+        if (content != null) {
+            content.getProperties().put(DeferredBinding.GATE_KEY, shown);
+        }
+    }
+
+    /**
+     * Binds {@code property} to {@code binding} and records the binding in
+     * the active {@link BindingScope}, so it is unbound when the scope is
+     * closed. Binders should use this instead of {@code Property.bind}.
+     *
+     * @param <T> the type of the property value.
+     * @param property the property to bind, e.g. a control's
+     * {@code textProperty()}.
+     * @param binding the observable value to bind to.
+     */
+    public static <T> void bindProperty(Property<T> property, ObservableValue<? extends T> binding) {
+        property.bind(binding);
+        register(property::unbind);
+    }
+
+    /**
+     * Adds a listener to {@link #bundleProperty()} and records it in the
+     * active {@link BindingScope}, so it is removed when the scope is closed.
+     * Binders should use this instead of adding bundle listeners directly:
+     * the time spent in the listener is then reported to the
+     * {@link LocaleSwitchProfiler} under the binder that added it.
+     *
+     * @param listener the listener to add.
+     */
+    public static void addBundleListener(ChangeListener<? super ResourceBundle> listener) {
+        String owner = currentOwner("addBundleListener");
+        ChangeListener<ResourceBundle> timed = (obs, oldVal, newVal) -> {
+            LocaleSwitchProfiler.Recorder recorder = profilerRecorder;
+            if (recorder == null) {
+                listener.changed(obs, oldVal, newVal);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                listener.changed(obs, oldVal, newVal);
+            } finally {
+                recorder.record(owner, System.nanoTime() - start);
+            }
+        };
+        bundleProperty.addListener(timed);
+        register(() -> bundleProperty.removeListener(timed));
+    }
+
+    /**
+     * Runs {@code bindings} with a new {@link BindingScope} active, so that
+     * every binding and bundle listener created by it, including those of
+     * nested {@link #autoBind(Object)} calls, is released together when the
+     * returned scope is closed.
+     *
+     * @param bindings the code creating the bindings of one view.
+     * @return the scope holding the created bindings.
+     */
+    public static BindingScope scoped(Runnable bindings) {
+        BindingScope parent = currentScope.get();
+        BindingScope scope = new BindingScope();
+        if (parent != null) parent.add(scope::close);
+        currentScope.set(scope);
+        try {
+            bindings.run();
+        } finally {
+            if (parent != null) {
+                currentScope.set(parent);
+            } else {
+                currentScope.remove();
+            }
+        }
+        return scope;
+    }
+
+    /**
+     * Records a release action in the active {@link BindingScope}, if any.
+     */
+    private static void register(Runnable release) {
+        BindingScope scope = currentScope.get();
+        if (scope != null) scope.add(release);
+    }
+
+    private static <T extends Binding<?>> T track(T binding) {
+        register(binding::dispose);
+        return binding;
+    }
+
+    /**
+     * Returns the name under which the evaluation cost of a new binding is
+     * reported by the {@link LocaleSwitchProfiler}: the binder creating it, or
+     * the given method name for direct calls.
+     */
+    private static String currentOwner(String method) {
+        String owner = bindingOwner.get();
+        return owner != null ? owner : "Language." + method;
+    }
+
+    /**
+     * Evaluates a binding, recording its cost while a
+     * {@link LocaleSwitchProfiler} is active.
+     */
+    static String evaluate(String owner, Callable<String> translation) throws Exception {
+        LocaleSwitchProfiler.Recorder recorder = profilerRecorder;
+        if (recorder == null) return translation.call();
+        long start = System.nanoTime();
+        try {
+            return translation.call();
+        } finally {
+            recorder.record(owner, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Binds a count-dependent message to the plural form matching the current
+     * value of {@code count}. The key is looked up with a plural category
+     * suffix ({@code .zero}, {@code .one}, {@code .two}, {@code .few},
+     * {@code .many} or {@code .other}) chosen by the precompiled
+     * {@link PluralRules} of the current locale, falling back to
+     * {@code .other} when the selected form is missing. Any {@code {0}} in the
+     * translated value is replaced by the count.
+     * <p>
+     * Example for Russian:
+     * <pre>
+     * files.one={0} файл
+     * files.few={0} файла
+     * files.many={0} файлов
+     * files.other={0} файла
+     * </pre>
+     * The category keys are built once per binding, so an update of the count
+     * only costs a rule evaluation and a bundle lookup.
+     *
+     * @param key the base key of the plural forms.
+     * @param count the observable count selecting the plural form.
+     * @return a `StringBinding` that updates whenever the count or the resource
+     * bundle changes.
+     */
+    public static StringBinding bindPlural(String key, ObservableIntegerValue count) {
+        String[] keys = PluralRules.keysFor(key);
+        String otherKey = keys[PluralRules.Category.OTHER.ordinal()];
+        String owner = currentOwner("bindPlural");
+        recordUsage(key);
+        Callable<String> translation = () -> {
+            ResourceBundle bundle = bundleProperty.get();
+            int n = count.get();
+            if (bundle == null) return key;
+            String formKey = keys[PluralRules.forLocale(getLocale()).select(n).ordinal()];
+            String value = lookup(bundle, formKey);
+            if (value == null) value = lookup(bundle, formKey = otherKey);
+            if (value != null) {
+                return value.replace("{0}", Integer.toString(n));
+            }
+            log.warn("Missing key '{}' in resource bundle", formKey);
+            return key;
+        };
+        return track(Bindings.createStringBinding(() -> evaluate(owner, translation), bundleProperty, revision(key), count));
+    }
+
+    /**
+     * Binds a message that is selected by the current value of
+     * {@code selector}, such as a gender or a status. The key is looked up as
+     * {@code key.<value>} and falls back to {@code key.other} when no entry
+     * exists for the value.
+     *
+     * @param key the base key of the select forms.
+     * @param selector the observable value choosing the form.
+     * @return a `StringBinding` that updates whenever the selector or the
+     * resource bundle changes.
+     */
+    public static StringBinding bindSelect(String key, ObservableStringValue selector) {
+        String prefix = key + ".";
+        String otherKey = prefix + "other";
+        String owner = currentOwner("bindSelect");
+        recordUsage(key);
+        Callable<String> translation = () -> {
+            ResourceBundle bundle = bundleProperty.get();
+            if (bundle == null) return key;
+            String selected = selector.get();
+            String formKey = selected != null ? prefix + selected : otherKey;
+            String value = lookup(bundle, formKey);
+            if (value == null) value = lookup(bundle, formKey = otherKey);
+            if (value != null) {
+                return value;
+            }
+            log.warn("Missing key '{}' in resource bundle", formKey);
+            return key;
+        };
+        return track(Bindings.createStringBinding(() -> evaluate(owner, translation), bundleProperty, revision(key), selector));
+    }
+
+    /**
+     * Binds a number formatted with the number format of the current locale
+     * (e.g. {@code 1,234.5} in English, {@code 1.234,5} in German). The
+     * formatters are cached per locale and confined to the formatting thread,
+     * so thousands of bound cells share one formatter.
+     *
+     * @param value the observable number; {@code null} is shown as an empty
+     * string.
+     * @return a `StringBinding` that updates whenever the value or the locale
+     * changes.
+     */
+    public static StringBinding bindNumber(ObservableValue<? extends Number> value) {
+        String owner = currentOwner("bindNumber");
+        Callable<String> format = () -> {
+            Number number = value.getValue();
+            return number == null ? "" : Formatters.number(number, getLocale());
+        };
+        return track(Bindings.createStringBinding(() -> evaluate(owner, format), bundleProperty, value));
+    }
+
+    /**
+     * Binds an amount formatted with the currency format of the current
+     * locale, in the currency of that locale.
+     *
+     * @param value the observable amount; {@code null} is shown as an empty
+     * string.
+     * @return a `StringBinding` that updates whenever the value or the locale
+     * changes.
+     * @see #bindCurrency(ObservableValue, Currency)
+     */
+    public static StringBinding bindCurrency(ObservableValue<? extends Number> value) {
+        return bindCurrency(value, null);
+    }
+
+    /**
+     * Binds an amount in a fixed currency, formatted with the currency format
+     * of the current locale (e.g. {@code €1,234.50} in English and
+     * {@code 1.234,50 €} in German).
+     *
+     * @param value the observable amount; {@code null} is shown as an empty
+     * string.
+     * @param currency the currency of the amount, or {@code null} for the
+     * currency of the current locale.
+     * @return a `StringBinding` that updates whenever the value or the locale
+     * changes.
+     */
+    public static StringBinding bindCurrency(ObservableValue<? extends Number> value, Currency currency) {
+        String owner = currentOwner("bindCurrency");
+        Callable<String> format = () -> {
+            Number amount = value.getValue();
+            return amount == null ? "" : Formatters.currency(amount, getLocale(), currency);
+        };
+        return track(Bindings.createStringBinding(() -> evaluate(owner, format), bundleProperty, value));
+    }
+
+    /**
+     * Binds a date formatted with the medium localized format of the current
+     * locale.
+     *
+     * @param value the observable date, time or date-time.
+     * @return a `StringBinding` that updates whenever the value or the locale
+     * changes.
+     * @see #bindDate(ObservableValue, FormatStyle)
+     */
+    public static StringBinding bindDate(ObservableValue<? extends TemporalAccessor> value) {
+        return bindDate(value, FormatStyle.MEDIUM);
+    }
+
+    /**
+     * Binds a date, time or date-time formatted with the localized format of
+     * the given style in the current locale. A {@code LocalDate} is formatted
+     * as a date, a {@code LocalTime} as a time, and a {@code LocalDateTime} or
+     * {@code ZonedDateTime} as both. An {@code Instant} is formatted as a
+     * date-time in the system default time zone. Values with neither date nor
+     * time fields, such as a {@code YearMonth}, cannot be formatted and show as
+     * an empty string. The {@code LONG} and {@code FULL} styles include the
+     * time zone for times, so they need a {@code ZonedDateTime}. Formatters are
+     * cached per style and locale.
+     *
+     * @param value the observable temporal value; {@code null} is shown as an
+     * empty string.
+     * @param style the localized format style.
+     * @return a `StringBinding` that updates whenever the value or the locale
+     * changes.
+     */
+    public static StringBinding bindDate(ObservableValue<? extends TemporalAccessor> value, FormatStyle style) {
+        String owner = currentOwner("bindDate");
+        Callable<String> format = () -> {
+            TemporalAccessor temporal = value.getValue();
+            return temporal == null ? "" : Formatters.date(temporal, style, getLocale());
+        };
+        return track(Bindings.createStringBinding(() -> evaluate(owner, format), bundleProperty, value));
     }
 
     /**
@@ -133,15 +1277,27 @@ public class Language {
      * locale. This method loads a new resource bundle based on the provided
      * locale and updates the `bundleProperty` to reflect the new bundle. It
      * also logs the success or failure of setting the locale.
+     * <p>
+     * A bundle may declare fonts and stylesheets for its locale under the
+     * reserved keys {@code @fonts} and {@code @stylesheets}, as
+     * comma-separated classpath resources or URLs. Fonts are loaded with the
+     * bundle, before the text changes, and the stylesheets of the previous
+     * locale are replaced on every open window together with the bundle, so
+     * text, fonts and styles change in the same pulse. Use
+     * {@link #setLocaleAsync(Locale)} or {@link #prewarm(Locale...)} to load
+     * large fonts off the FX thread.
+     * </p>
      *
      * @param locale the new `Locale` to set for the language, such as
      * `Locale.ENGLISH` or `Locale.forLanguageTag("es")`.
      */
     public static void setLocale(Locale locale) {
+        localeRequests.incrementAndGet();
         try {
             log.info("Setting locale to: {}", locale);
-            ResourceBundle newBundle = ResourceBundle.getBundle(baseName, locale);
-            bundleProperty.set(newBundle);
+            ResourceBundle newBundle = loadBundle(locale);
+            LocaleAssets.of(newBundle).loadFonts();
+            activate(locale, newBundle);
             log.info("Locale set successfully");
         } catch (Exception e) {
             log.error("""
@@ -150,6 +1306,63 @@ public class Language {
         }
     }
 
+    /**
+     * Sets the current locale without blocking the calling thread on the
+     * bundle load. The bundle is loaded on a background thread, unless it is
+     * already resident, and then published on the JavaFX application thread,
+     * so bindings and listeners are always updated on the FX thread.
+     * <p>
+     * If several switches overlap, only the latest one is applied: a load
+     * that completes after a newer call to this method or to
+     * {@link #setLocale(Locale)} is discarded, even if the newer load has not
+     * finished yet.
+     * </p>
+     *
+     * @param locale the new locale to apply.
+     * @return a future completing once the locale is active, or once the
+     * switch has been superseded, or exceptionally with a
+     * {@link MissingResourceException} if its bundle cannot be loaded.
+     */
+    public static CompletableFuture<Void> setLocaleAsync(Locale locale) {
+        long request = localeRequests.incrementAndGet();
+        log.info("Setting locale asynchronously to: {}", locale);
+        ResourceBundle resident = residentBundle(locale);
+        CompletableFuture<ResourceBundle> loading = resident != null && LocaleAssets.of(resident).fontsLoaded()
+                ? CompletableFuture.completedFuture(resident)
+                : CompletableFuture.supplyAsync(() -> {
+                    ResourceBundle bundle = loadBundle(locale);
+                    LocaleAssets.of(bundle).loadFonts();
+                    return bundle;
+                }, ForkJoinPool.commonPool());
+        return loading.thenAcceptAsync(bundle -> {
+            if (request != localeRequests.get()) {
+                log.debug("Discarding switch to {}, superseded by a newer one", locale);
+                return;
+            }
+            activate(locale, bundle);
+        }, Language::runOnFxThread)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Failed to load resource bundle for locale: {}", locale, error.getCause());
+                    }
+                });
+    }
+
+    private static void activate(Locale locale, ResourceBundle bundle) {
+        Language.locale = locale;
+        loadedShards.clear();
+        bundleProperty.set(bundle);
+        LocaleAssets.of(bundle).applyStylesheets();
+    }
+
+    private static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+
     /**
      * Automatically binds the text or promptText properties of UI controls
      * (such as {@code Label} and {@code TextInputControl}) in the provided
@@ -171,8 +1384,15 @@ public class Language {
      *
      * @param controller the controller or object containing UI controls whose
      * properties will be bound to the resource bundle.
+     * @return the scope holding the created bindings; close it when the view
+     * is closed to release them.
      */
-    public static void autoBind(Object controller) {
+    public static BindingScope autoBind(Object controller) {
+        return scoped(() -> bindFields(controller));
+    }
+
+    private static void bindFields(Object controller) {
+        if (Platform.isFxApplicationThread()) LocaleAssets.observeWindows();
         log.debug("Obtaining declared fields from controller: {}", controller.getClass().getName());
         var fields = controller.getClass().getDeclaredFields();
         log.debug("Obtained {} declared fields", fields.length);
@@ -203,15 +1423,7 @@ public class Language {
                     }
                 }
 
-                boolean bound = false;
-                for (ControlBinder binder : BINDERS) {
-                    if (binder.supports(control)) {
-                        binder.bind(control, key);
-                        bound = true;
-                        break;
-                    }
-                }
-                if (!bound) {
+                if (!bindControl(control, key)) {
                     log.debug("No binder found for control type: {}", control.getClass().getName());
                 }
 
@@ -236,16 +1448,364 @@ public class Language {
      * otherwise.
      */
     public static String get(String key, String fallback) {
-        ResourceBundle bundle = bundleProperty.get();
-        if (bundle != null && bundle.containsKey(key)) {
+        String value = lookup(bundleProperty.get(), key);
+        if (value != null) {
             log.debug("Found key '{}' in bundle", key);
-            return bundle.getString(key);
+            return value;
         } else {
             log.warn("Missing key '{}' in resource bundle", key);
             return fallback;
         }
     }
 
+    /**
+     * Enables or disables recording of the keys that are looked up or bound.
+     * While enabled, every key read through a binding or {@link #get} is
+     * added to the usage set, and so is the base key of plural and select
+     * bindings, whose forms differ per language. Enabling it again keeps the
+     * keys recorded so far.
+     * <p>
+     * Run the application with tracking enabled, write the usage with
+     * {@link #writeUsedKeys(Path)}, and feed the files to
+     * {@link io.github.snoopy137.languagemanager.tools.BundlePruner} to find
+     * or strip unused keys at build time.
+     * </p>
+     *
+     * @param enabled {@code true} to record key usage, {@code false} (the
+     * default) to stop recording.
+     */
+    public static void setKeyUsageTracking(boolean enabled) {
+        if (enabled) {
+            if (usedKeys == null) {
+                Set<String> used = ConcurrentHashMap.newKeySet();
+                used.addAll(trackedKeys);
+                usedKeys = used;
+            }
+        } else {
+            trackedKeys = usedKeys != null ? Set.copyOf(usedKeys) : trackedKeys;
+            usedKeys = null;
+        }
+    }
+
+    /**
+     * Returns the keys recorded since key usage tracking was enabled.
+     *
+     * @return a snapshot of the used keys.
+     * @see #setKeyUsageTracking(boolean)
+     */
+    public static Set<String> getUsedKeys() {
+        Set<String> used = usedKeys;
+        return used != null ? Set.copyOf(used) : trackedKeys;
+    }
+
+    /**
+     * Writes the recorded keys to a file, one key per line in sorted order.
+     * Keys already listed in an existing file are kept, so the usage of
+     * several sessions accumulates in one file.
+     *
+     * @param file the usage file to write.
+     * @throws IOException if the file cannot be read or written.
+     */
+    public static void writeUsedKeys(Path file) throws IOException {
+        Set<String> keys = new TreeSet<>(getUsedKeys());
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank() && !line.startsWith("#")) keys.add(line.strip());
+            }
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.write(file, keys, StandardCharsets.UTF_8);
+        log.info("Wrote {} used keys to {}", keys.size(), file);
+    }
+
+    private static void recordUsage(String key) {
+        Set<String> used = usedKeys;
+        if (used != null) used.add(key);
+    }
+
+    /**
+     * Returns the keys of the current locale starting with a prefix, e.g.
+     * every {@code gender.} key. Keys of a loaded namespace shard matching the
+     * prefix are included.
+     * <p>
+     * The keys of every resident bundle are kept in a sorted index built when
+     * the bundle loads, so the cost depends on the prefix and the number of
+     * results, not on the size of the bundle.
+     * </p>
+     *
+     * @param prefix the key prefix.
+     * @return the matching keys in sorted order, or an empty list if no
+     * bundle is loaded.
+     */
+    public static List<String> keysWithPrefix(String prefix) {
+        ResourceBundle bundle = bundleProperty.get();
+        List<String> keys = bundle instanceof PatchableBundle patchable
+                ? patchable.keyIndex().withPrefix(prefix) : List.of();
+        ResourceBundle shard = prefix.indexOf('.') > 0 ? shardFor(prefix) : null;
+        if (!(shard instanceof PatchableBundle patchableShard)) return keys;
+        List<String> shardKeys = patchableShard.keyIndex().withPrefix(prefix);
+        if (shardKeys.isEmpty()) return keys;
+        TreeSet<String> merged = new TreeSet<>(keys);
+        merged.addAll(shardKeys);
+        return List.copyOf(merged);
+    }
+
+    /**
+     * Returns the keys directly below a key, e.g. {@code gender.0},
+     * {@code gender.1} and {@code gender.other} for {@code gender}, but not
+     * {@code gender.other.hint}. Numeric children come first in numeric order,
+     * followed by the others in key order. Used by the list binders to
+     * populate controls marked with {@link #populateFromKeys(Node)}.
+     *
+     * @param key the parent key.
+     * @return the child keys.
+     * @see #keysWithPrefix(String)
+     */
+    public static List<String> childKeys(String key) {
+        String prefix = key + ".";
+        List<String> children = new ArrayList<>();
+        for (String candidate : keysWithPrefix(prefix)) {
+            if (candidate.indexOf('.', prefix.length()) < 0) children.add(candidate);
+        }
+        children.sort((a, b) -> {
+            int x = childIndex(a, prefix.length());
+            int y = childIndex(b, prefix.length());
+            if (x >= 0 && y >= 0) return Integer.compare(x, y);
+            if (x >= 0 || y >= 0) return x >= 0 ? -1 : 1;
+            return a.compareTo(b);
+        });
+        return children;
+    }
+
+    private static int childIndex(String key, int from) {
+        if (from == key.length() || key.length() - from > 9) return -1;
+        for (int i = from; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) return -1;
+        }
+        return Integer.parseInt(key, from, key.length(), 10);
+    }
+
+    /**
+     * Searches the translated values of the current locale and returns the
+     * keys whose value contains the query, ignoring case and accents (e.g.
+     * {@code "medico"} finds {@code "Médico"}). Queries shorter than three
+     * characters match the start of a word.
+     * <p>
+     * The first call builds an n-gram index over the active bundle; from then
+     * on the index is rebuilt on a background thread after every locale
+     * switch, so queries stay well below a millisecond even for large
+     * bundles. Until the rebuild finishes, queries are answered from the
+     * previous index. Namespace shards and patches are not indexed.
+     * </p>
+     *
+     * @param query the text to search for.
+     * @return the matching keys in key order, or an empty list.
+     */
+    public static List<String> search(String query) {
+        if (query == null) return List.of();
+        if (searchEnabled.compareAndSet(false, true)) {
+            bundleProperty.addListener((obs, oldVal, newVal) -> rebuildSearchIndex(newVal));
+        }
+        SearchIndex index = searchIndex;
+        ResourceBundle bundle = getBundle();
+        if (index == null) {
+            if (bundle == null) return List.of();
+            index = SearchIndex.build(bundle);
+            searchIndex = index;
+        }
+        return index.search(query);
+    }
+
+    private static void rebuildSearchIndex(ResourceBundle bundle) {
+        if (bundle == null) return;
+        CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            SearchIndex index = SearchIndex.build(bundle);
+            // Drop the result if another switch happened in the meantime
+            if (bundleProperty.get() == bundle) {
+                searchIndex = index;
+                log.debug("Rebuilt search index for locale {} in {} ms", bundle.getLocale(), (System.nanoTime() - start) / 1_000_000);
+            }
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sets the handler called with the {@code href} of a link clicked in rich
+     * text bound by the {@code TextFlow} binder, e.g. to open it with
+     * {@code HostServices.showDocument} or to navigate inside the
+     * application.
+     *
+     * @param handler the link handler.
+     */
+    public static void setLinkHandler(Consumer<String> handler) {
+        linkHandler = handler;
+    }
+
+    /**
+     * Returns the handler of links clicked in bound rich text.
+     *
+     * @return the link handler.
+     * @see #setLinkHandler(Consumer)
+     */
+    public static Consumer<String> getLinkHandler() {
+        return linkHandler;
+    }
+
+    /**
+     * Marks an empty list control ({@code ComboBox}, {@code ListView},
+     * {@code ChoiceBox} or a {@code TreeView} without root) so that the
+     * built-in binders fill it from the bundle: one item per child of its key
+     * (see {@link #childKeys(String)}), re-read on every locale switch. Once
+     * the application changes the items itself, the binder leaves them alone.
+     * Call this before binding the control; unmarked empty controls are not
+     * populated.
+     *
+     * @param control the list control to populate.
+     */
+    public static void populateFromKeys(Node control) {
+        control.getProperties().put(POPULATE_FROM_KEYS, Boolean.TRUE);
+    }
+
+    /**
+     * Returns whether a list control was marked with
+     * {@link #populateFromKeys(Node)}.
+     *
+     * @param control the list control.
+     * @return {@code true} if its items are taken from the bundle.
+     */
+    public static boolean isPopulatedFromKeys(Node control) {
+        return control.hasProperties() && control.getProperties().get(POPULATE_FROM_KEYS) == Boolean.TRUE;
+    }
+
+    /**
+     * Marks a list control ({@code ComboBox}, {@code ListView} or
+     * {@code ChoiceBox}) so that the built-in binders keep its translated items
+     * sorted by the collation rules of the current locale, e.g. with accented
+     * letters sorted next to their base letter. Call this before binding the
+     * control, or the order is only applied from the next locale switch.
+     *
+     * @param control the list control to keep sorted.
+     */
+    public static void sortByCollation(Node control) {
+        control.getProperties().put(SORT_BY_COLLATION, Boolean.TRUE);
+    }
+
+    /**
+     * Returns whether a list control was marked with
+     * {@link #sortByCollation(Node)}.
+     *
+     * @param control the list control.
+     * @return {@code true} if its items are kept sorted.
+     */
+    public static boolean isSortedByCollation(Node control) {
+        return control.hasProperties() && control.getProperties().get(SORT_BY_COLLATION) == Boolean.TRUE;
+    }
+
+    /**
+     * Sets how the items of a {@code ComboBox}, {@code ChoiceBox} or
+     * {@code ListView} map to language keys, for items that are domain
+     * objects rather than strings. The binders then render the items through
+     * a {@link io.github.snoopy137.languagemanager.binding.LocalizedStringConverter}
+     * instead of replacing them, so selection and value equality survive a
+     * locale switch. Enum items are rendered this way without a call, as
+     * {@code key.NAME}. Call it before the control is bound:
+     * <pre>
+     * Language.setItemKeys(countryBox, (Country country) -&gt; "country." + country.getCode());
+     * </pre>
+     *
+     * @param <T> the type of the items.
+     * @param control the list control.
+     * @param keyOf returns the language key of an item.
+     */
+    public static <T> void setItemKeys(Node control, Function<? super T, String> keyOf) {
+        control.getProperties().put(ITEM_KEYS, keyOf);
+    }
+
+    /**
+     * Returns the item key function set with
+     * {@link #setItemKeys(Node, Function)}.
+     *
+     * @param <T> the type of the items.
+     * @param control the list control.
+     * @return the function, or {@code null} if none was set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Function<? super T, String> getItemKeys(Node control) {
+        return control.hasProperties() ? (Function<? super T, String>) control.getProperties().get(ITEM_KEYS) : null;
+    }
+
+    /**
+     * Returns the collation key of a translated text in the current locale.
+     * Keys are computed once per locale and bundle key and cached, so sorting
+     * after a locale switch only compares the precomputed bytes. A cached key
+     * is recomputed if the text of its bundle key has changed, e.g. through
+     * {@link #applyPatch(BundlePatch)}.
+     *
+     * @param key the bundle key the text was translated from.
+     * @param text the translated text.
+     * @return the collation key of the text.
+     */
+    public static CollationKey collationKey(String key, String text) {
+        Locale current = getLocale();
+        Map<String, CollationKey> keys = collationKeys.computeIfAbsent(current, l -> new ConcurrentHashMap<>());
+        String source = text != null ? text : "";
+        CollationKey cached = keys.get(key);
+        if (cached != null && cached.getSourceString().equals(source)) return cached;
+        Collator collator = collators.computeIfAbsent(current, Collator::getInstance);
+        CollationKey computed;
+        // Collator instances are not thread-safe
+        synchronized (collator) {
+            computed = collator.getCollationKey(source);
+        }
+        keys.put(key, computed);
+        return computed;
+    }
+
+    /**
+     * Loads an FXML document and binds every element with an {@code fx:id}
+     * to the key of the same name, taken from the loader's namespace:
+     * <pre>
+     * FXMLLoader loader = new FXMLLoader(getClass().getResource("main.fxml"));
+     * BindingScope scope = Language.loadFxml(loader);
+     * Parent root = loader.getRoot();
+     * </pre>
+     * Unlike {@link #autoBind(Object)}, no controller fields are reflected
+     * over, and elements without a controller field are bound as well, so
+     * the document alone decides the keys. Elements no binder supports are
+     * skipped. Do not also call {@code autoBind} on the controller, or the
+     * controls are bound twice. Documents pulled in with {@code fx:include}
+     * have their own namespace and are not bound.
+     *
+     * @param loader the loader, with its location or input set up.
+     * @return the scope holding the created bindings; close it when the view
+     * is closed to release them.
+     * @throws IOException if the document cannot be loaded.
+     */
+    public static BindingScope loadFxml(FXMLLoader loader) throws IOException {
+        loader.load();
+        return scoped(() -> bindNamespace(loader.getNamespace()));
+    }
+
+    private static void bindNamespace(Map<String, Object> namespace) {
+        if (Platform.isFxApplicationThread()) LocaleAssets.observeWindows();
+        int bound = 0;
+        for (Map.Entry<String, Object> entry : namespace.entrySet()) {
+            String id = entry.getKey();
+            // Entries the loader adds itself, not elements of the document
+            if (id.equals(FXMLLoader.LOCATION_KEY) || id.equals(FXMLLoader.RESOURCES_KEY)
+                    || id.equals(FXMLLoader.CONTROLLER_KEYWORD) || entry.getValue() == null) {
+                continue;
+            }
+            if (bindControl(entry.getValue(), id)) {
+                bound++;
+            } else {
+                log.debug("No binder found for '{}' of type {}", id, entry.getValue().getClass().getName());
+            }
+        }
+        log.debug("Bound {} of {} namespace entries", bound, namespace.size());
+    }
+
     /**
      * Automatically binds a single UI control to the corresponding value in the
      * current resource bundle.
@@ -262,8 +1822,14 @@ public class Language {
      *
      * @param control the UI control to bind (e.g., {@code Label},
      * {@code Button}, {@code TextField}, etc.).
+     * @return the scope holding the created bindings; close it when the
+     * control is discarded to release them.
      */
-    public static void autoBindField(Object control, String key) {
+    public static BindingScope autoBindField(Object control, String key) {
+        return scoped(() -> bindField(control, key));
+    }
+
+    private static void bindField(Object control, String key) {
         if (control == null) {
             log.warn("Control is null, skipping auto-bind");
             return;
@@ -284,18 +1850,39 @@ public class Language {
             return;
         }
 
-        boolean bound = false;
+        if (bindControl(control, key)) {
+            log.debug("Successfully auto-bound control '{}' with key '{}'", control.getClass().getName(), key);
+        } else {
+            log.debug("No binder found for control type: {}", control.getClass().getName());
+        }
+    }
+
+    /**
+     * Binds a control with the first binder supporting it.
+     *
+     * @return {@code true} if a binder was found.
+     */
+    private static boolean bindControl(Object control, String key) {
         for (ControlBinder binder : BINDERS) {
             if (binder.supports(control)) {
-                binder.bind(control, key);
-                bound = true;
-                log.debug("Successfully auto-bound control '{}' with key '{}'", control.getClass().getName(), key);
-                break;
+                bindingOwner.set(binder.getClass().getSimpleName());
+                try {
+                    binder.bind(control, key);
+                } finally {
+                    bindingOwner.remove();
+                }
+                return true;
             }
         }
+        return false;
+    }
 
-        if (!bound) {
-            log.debug("No binder found for control type: {}", control.getClass().getName());
-        }
+    /**
+     * Loads the bundle of the given locale into the resident cache without
+     * activating it. Used by the {@link LocaleSwitchProfiler} to time the load
+     * separately from the switch.
+     */
+    static ResourceBundle preload(Locale locale) {
+        return loadBundle(locale);
     }
 }
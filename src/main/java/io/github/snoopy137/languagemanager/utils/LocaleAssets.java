@@ -0,0 +1,172 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Scene;
+import javafx.scene.text.Font;
+import javafx.stage.Window;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The fonts and stylesheets a locale declares next to its translations.
+ * <p>
+ * A bundle lists them as comma-separated classpath resources or URLs under the
+ * reserved keys {@value #FONTS_KEY} and {@value #STYLESHEETS_KEY}. Fonts are
+ * loaded once per URL, on the thread loading the bundle, so a switch to a
+ * locale with large fonts does not stall the first frame. Stylesheets are
+ * swapped on every open window in the same pulse as the bundle.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+final class LocaleAssets {
+
+    /**
+     * The bundle key listing the font files of a locale.
+     */
+    static final String FONTS_KEY = "@fonts";
+    /**
+     * The bundle key listing the stylesheets of a locale.
+     */
+    static final String STYLESHEETS_KEY = "@stylesheets";
+
+    private static final LocaleAssets NONE = new LocaleAssets(List.of(), List.of());
+    private static final Map<ResourceBundle, LocaleAssets> declared = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<String> loadedFonts = ConcurrentHashMap.newKeySet();
+    private static volatile List<String> activeStylesheets = List.of();
+    private static volatile boolean windowsObserved;
+
+    private final List<String> fonts;
+    private final List<String> stylesheets;
+
+    private LocaleAssets(List<String> fonts, List<String> stylesheets) {
+        this.fonts = fonts;
+        this.stylesheets = stylesheets;
+    }
+
+    /**
+     * Returns the assets declared by a bundle, resolving their URLs once per
+     * bundle.
+     */
+    static LocaleAssets of(ResourceBundle bundle) {
+        if (bundle == null || !bundle.containsKey(FONTS_KEY) && !bundle.containsKey(STYLESHEETS_KEY)) return NONE;
+        return declared.computeIfAbsent(bundle, b -> new LocaleAssets(urls(b, FONTS_KEY), urls(b, STYLESHEETS_KEY)));
+    }
+
+    /**
+     * Returns whether every font of the locale is already loaded.
+     */
+    boolean fontsLoaded() {
+        return loadedFonts.containsAll(fonts);
+    }
+
+    /**
+     * Loads the fonts not loaded yet. Safe to call from any thread once the
+     * JavaFX toolkit is running.
+     */
+    void loadFonts() {
+        for (String font : fonts) {
+            if (!loadedFonts.add(font)) continue;
+            long start = System.nanoTime();
+            Font loaded = null;
+            try {
+                loaded = Font.loadFont(font, 12);
+            } catch (RuntimeException e) {
+                log.debug("Font loading failed", e);
+            }
+            if (loaded == null) {
+                log.warn("Failed to load font {}", font);
+                loadedFonts.remove(font);
+            } else {
+                log.debug("Loaded font {} ({}) in {} ms", font, loaded.getFamily(), (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Replaces the stylesheets of the previous locale with these on every
+     * open window, and on windows opened later. Windows are only touched on
+     * the FX thread. Before the toolkit runs no window is open, so the
+     * stylesheets are only remembered and added to windows once they are
+     * shown (see {@link #observeWindows()}).
+     */
+    void applyStylesheets() {
+        List<String> previous = activeStylesheets;
+        if (previous.equals(stylesheets)) return;
+        activeStylesheets = stylesheets;
+        Runnable swapAll = () -> {
+            observeWindows();
+            for (Window window : Window.getWindows()) {
+                swap(window.getScene(), previous, stylesheets);
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            swapAll.run();
+            return;
+        }
+        try {
+            Platform.runLater(swapAll);
+        } catch (IllegalStateException e) {
+            // The toolkit is not running yet, so no window is open
+        }
+    }
+
+    /**
+     * Starts adding the active stylesheets to every window shown from now on,
+     * if a locale declared any. Must run on the FX thread; {@link Language}
+     * calls this when binding a view, so windows shown after a locale was set
+     * before the toolkit started get the stylesheets as well.
+     */
+    static void observeWindows() {
+        if (windowsObserved || activeStylesheets.isEmpty()) return;
+        windowsObserved = true;
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(window -> swap(window.getScene(), List.of(), activeStylesheets));
+            }
+        });
+    }
+
+    private static void swap(Scene scene, List<String> previous, List<String> next) {
+        if (scene == null) return;
+        scene.getStylesheets().removeAll(previous);
+        for (String stylesheet : next) {
+            if (!scene.getStylesheets().contains(stylesheet)) scene.getStylesheets().add(stylesheet);
+        }
+    }
+
+    private static List<String> urls(ResourceBundle bundle, String key) {
+        if (!bundle.containsKey(key)) return List.of();
+        List<String> urls = new ArrayList<>();
+        for (String entry : bundle.getString(key).split(",")) {
+            String path = entry.strip();
+            if (path.isEmpty()) continue;
+            String url = resolve(path);
+            if (url == null) {
+                log.warn("Asset '{}' declared by {} for locale {} not found", path, key, bundle.getLocale());
+            } else {
+                urls.add(url);
+            }
+        }
+        return List.copyOf(urls);
+    }
+
+    private static String resolve(String path) {
+        if (path.contains(":")) return path;
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        URL url = loader != null ? loader.getResource(path.startsWith("/") ? path.substring(1) : path) : null;
+        if (url == null) url = LocaleAssets.class.getResource(path.startsWith("/") ? path : "/" + path);
+        return url != null ? url.toExternalForm() : null;
+    }
+}
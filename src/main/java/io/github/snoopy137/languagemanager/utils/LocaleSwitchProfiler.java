@@ -0,0 +1,133 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opt-in profiler measuring what a locale switch costs, beyond looking up the
+ * strings.
+ * <p>
+ * {@link #profile(Locale, Parent...)} performs a {@link Language#setLocale}
+ * call and splits its cost into:
+ * </p>
+ * <ul>
+ * <li>the bundle load,</li>
+ * <li>the evaluation of the bindings and bundle listeners, attributed to the
+ * binder type that created each of them, including bindings evaluated lazily
+ * during the CSS and layout passes,</li>
+ * <li>the CSS and layout passes triggered by the changed text, attributed to
+ * each top-level node.</li>
+ * </ul>
+ * <p>
+ * The CSS and layout passes are forced right after the switch with
+ * {@link Node#applyCss()} and {@link Parent#layout()}, so they do the work the
+ * following pulse would otherwise do and can be timed per node. The profiler
+ * has no cost while it is not running.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+@Slf4j
+public final class LocaleSwitchProfiler {
+
+    private LocaleSwitchProfiler() {
+    }
+
+    /**
+     * Profiles a switch to the given locale, measuring CSS and layout for the
+     * scene roots of all showing windows.
+     *
+     * @param locale the locale to switch to
+     * @return the report of the switch
+     * @throws IllegalStateException if not called on the JavaFX Application
+     * Thread
+     */
+    public static LocaleSwitchReport profile(Locale locale) {
+        List<Parent> roots = new ArrayList<>();
+        for (Window window : Window.getWindows()) {
+            Scene scene = window.getScene();
+            if (window.isShowing() && scene != null && scene.getRoot() != null) {
+                roots.add(scene.getRoot());
+            }
+        }
+        return profile(locale, roots.toArray(Parent[]::new));
+    }
+
+    /**
+     * Profiles a switch to the given locale, measuring CSS and layout for the
+     * given top-level nodes.
+     *
+     * @param locale the locale to switch to
+     * @param roots the top-level nodes to attribute CSS and layout cost to
+     * @return the report of the switch
+     * @throws IllegalStateException if not called on the JavaFX Application
+     * Thread
+     */
+    public static LocaleSwitchReport profile(Locale locale, Parent... roots) {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("Locale switches must be profiled on the JavaFX Application Thread");
+        }
+        Recorder recorder = new Recorder();
+        long start = System.nanoTime();
+        try {
+            Language.preload(locale);
+        } catch (RuntimeException e) {
+            log.warn("Failed to preload resource bundle for locale: {}", locale);
+        }
+        long loaded = System.nanoTime();
+
+        long switched;
+        List<LocaleSwitchReport.NodeCost> nodeCosts = new ArrayList<>();
+        // Stays active through CSS and layout, which evaluate lazy bindings too
+        Language.profilerRecorder = recorder;
+        try {
+            Language.setLocale(locale);
+            switched = System.nanoTime();
+            for (Parent root : roots) {
+                long cssStart = System.nanoTime();
+                root.applyCss();
+                long layoutStart = System.nanoTime();
+                root.layout();
+                long end = System.nanoTime();
+                nodeCosts.add(new LocaleSwitchReport.NodeCost(root, layoutStart - cssStart, end - layoutStart));
+            }
+        } finally {
+            Language.profilerRecorder = null;
+        }
+        LocaleSwitchReport report = new LocaleSwitchReport(locale, loaded - start, switched - loaded,
+                recorder.binderCosts(), nodeCosts);
+        log.debug("Profiled locale switch:\n{}", report);
+        return report;
+    }
+
+    /**
+     * Collects binding evaluation costs while a profile is running.
+     */
+    static final class Recorder {
+
+        private final Map<String, long[]> costs = new HashMap<>();
+
+        synchronized void record(String owner, long nanos) {
+            long[] cost = costs.computeIfAbsent(owner, o -> new long[2]);
+            cost[0] += nanos;
+            cost[1]++;
+        }
+
+        synchronized List<LocaleSwitchReport.BinderCost> binderCosts() {
+            List<LocaleSwitchReport.BinderCost> result = new ArrayList<>();
+            costs.forEach((owner, cost) -> result.add(new LocaleSwitchReport.BinderCost(owner, cost[0], (int) cost[1])));
+            result.sort((a, b) -> Long.compare(b.nanos(), a.nanos()));
+            return result;
+        }
+    }
+}
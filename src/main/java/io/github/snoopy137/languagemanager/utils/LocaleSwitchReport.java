@@ -0,0 +1,143 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.List;
+import java.util.Locale;
+import javafx.scene.Node;
+
+/**
+ * The result of a locale switch measured by {@link LocaleSwitchProfiler}. All
+ * durations are in nanoseconds.
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+public final class LocaleSwitchReport {
+
+    /**
+     * The evaluation cost of all bindings created by one binder type (e.g.
+     * {@code LabeledBinder}) or by a direct {@code Language.bind} call.
+     *
+     * @param binder the binder type, or {@code Language.<method>} for direct
+     * calls
+     * @param nanos the total evaluation time
+     * @param evaluations the number of bindings evaluated
+     */
+    public record BinderCost(String binder, long nanos, int evaluations) {
+    }
+
+    /**
+     * The CSS and layout cost of one top-level node.
+     *
+     * @param node the top-level node
+     * @param cssNanos the time spent applying CSS
+     * @param layoutNanos the time spent laying out
+     */
+    public record NodeCost(Node node, long cssNanos, long layoutNanos) {
+    }
+
+    private final Locale locale;
+    private final long bundleLoadNanos;
+    private final long bindingNanos;
+    private final List<BinderCost> binderCosts;
+    private final List<NodeCost> nodeCosts;
+
+    LocaleSwitchReport(Locale locale, long bundleLoadNanos, long bindingNanos,
+            List<BinderCost> binderCosts, List<NodeCost> nodeCosts) {
+        this.locale = locale;
+        this.bundleLoadNanos = bundleLoadNanos;
+        this.bindingNanos = bindingNanos;
+        this.binderCosts = List.copyOf(binderCosts);
+        this.nodeCosts = List.copyOf(nodeCosts);
+    }
+
+    /**
+     * Returns the locale that was switched to.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the time spent loading the bundle, or close to zero if it was
+     * already resident.
+     */
+    public long getBundleLoadNanos() {
+        return bundleLoadNanos;
+    }
+
+    /**
+     * Returns the time spent publishing the new bundle, including the
+     * evaluation of every binding and bundle listener notified synchronously.
+     */
+    public long getBindingNanos() {
+        return bindingNanos;
+    }
+
+    /**
+     * Returns the binding evaluation cost per binder type, most expensive
+     * first. Bindings evaluated lazily during the CSS or layout pass are
+     * included as well, and so are the bundle listeners binders add through
+     * {@link Language#addBundleListener}, e.g. to rebuild list items. Time
+     * spent in lazy bindings is therefore also part of the CSS and layout
+     * costs of the nodes.
+     */
+    public List<BinderCost> getBinderCosts() {
+        return binderCosts;
+    }
+
+    /**
+     * Returns the CSS and layout cost per top-level node, in the order the
+     * nodes were given.
+     */
+    public List<NodeCost> getNodeCosts() {
+        return nodeCosts;
+    }
+
+    /**
+     * Returns the total CSS time of all top-level nodes.
+     */
+    public long getCssNanos() {
+        return nodeCosts.stream().mapToLong(NodeCost::cssNanos).sum();
+    }
+
+    /**
+     * Returns the total layout time of all top-level nodes.
+     */
+    public long getLayoutNanos() {
+        return nodeCosts.stream().mapToLong(NodeCost::layoutNanos).sum();
+    }
+
+    /**
+     * Returns the total measured time of the switch.
+     */
+    public long getTotalNanos() {
+        return bundleLoadNanos + bindingNanos + getCssNanos() + getLayoutNanos();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Locale switch to %s: %.3f ms total%n", locale, millis(getTotalNanos())));
+        sb.append(String.format("  bundle load: %.3f ms%n", millis(bundleLoadNanos)));
+        sb.append(String.format("  bindings:    %.3f ms%n", millis(bindingNanos)));
+        for (BinderCost cost : binderCosts) {
+            sb.append(String.format("    %-28s %.3f ms (%d evaluations)%n", cost.binder(), millis(cost.nanos()), cost.evaluations()));
+        }
+        sb.append(String.format("  css:         %.3f ms%n", millis(getCssNanos())));
+        sb.append(String.format("  layout:      %.3f ms%n", millis(getLayoutNanos())));
+        for (NodeCost cost : nodeCosts) {
+            sb.append(String.format("    %-28s css %.3f ms, layout %.3f ms%n", describe(cost.node()),
+                    millis(cost.cssNanos()), millis(cost.layoutNanos())));
+        }
+        return sb.toString();
+    }
+
+    private static String describe(Node node) {
+        String id = node.getId();
+        return node.getClass().getSimpleName() + (id != null ? "#" + id : "");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * A keys &times; locales matrix holding the translations of a fixed set of
+ * locales.
+ * <p>
+ * Every key is assigned one id shared by all locales, and each locale owns one
+ * value column indexed by that id. Switching between the locales of the table
+ * only selects another column view, so no bundle is loaded or rebuilt.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class LocaleTable {
+
+    private final Map<String, Integer> keyIds;
+    private final Map<Locale, Column> columns = new HashMap<>();
+
+    private LocaleTable(Map<String, Integer> keyIds) {
+        this.keyIds = keyIds;
+    }
+
+    /**
+     * Builds a table from the resolved entries of each locale, one column per
+     * locale.
+     *
+     * @param locales the locales, in the same order as {@code bundles}
+     * @param bundles the resolved entries of each locale
+     * @param pool the pool used to share keys and values
+     * @return the table
+     */
+    static LocaleTable of(List<Locale> locales, List<Map<String, Object>> bundles, StringPool pool) {
+        Set<String> allKeys = new LinkedHashSet<>();
+        for (Map<String, Object> bundle : bundles) {
+            allKeys.addAll(bundle.keySet());
+        }
+        Map<String, Integer> keyIds = new HashMap<>(FlatBundle.capacity(allKeys.size()));
+        for (String key : allKeys) {
+            keyIds.put(pool.intern(key), keyIds.size());
+        }
+        LocaleTable table = new LocaleTable(keyIds);
+        for (int i = 0; i < locales.size(); i++) {
+            Object[] values = new Object[keyIds.size()];
+            for (Map.Entry<String, Object> entry : bundles.get(i).entrySet()) {
+                Object value = entry.getValue();
+                values[keyIds.get(entry.getKey())] = value instanceof String text ? pool.intern(text) : value;
+            }
+            table.columns.put(locales.get(i), table.new Column(values, locales.get(i)));
+        }
+        return table;
+    }
+
+    /**
+     * Returns the column view of the given locale.
+     *
+     * @param locale the locale to look up
+     * @return the view, or {@code null} if the locale is not part of the table
+     */
+    ResourceBundle column(Locale locale) {
+        return columns.get(locale);
+    }
+
+    /**
+     * Returns the locales held by the table.
+     */
+    Set<Locale> locales() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    /**
+     * A bundle view over one value column of the table. Patches are kept in
+     * the column's own overlay, so the shared key ids never change.
+     */
+    private final class Column extends PatchableBundle {
+
+        private final Object[] values;
+        private final Locale locale;
+
+        private Column(Object[] values, Locale locale) {
+            this.values = values;
+            this.locale = locale;
+        }
+
+        @Override
+        protected Object resolvedObject(String key) {
+            Integer id = keyIds.get(key);
+            return id == null ? null : values[id];
+        }
+
+        @Override
+        protected boolean containsResolvedKey(String key) {
+            return resolvedObject(key) != null;
+        }
+
+        @Override
+        protected Set<String> resolvedKeySet() {
+            Set<String> keys = new LinkedHashSet<>();
+            for (Map.Entry<String, Integer> entry : keyIds.entrySet()) {
+                if (values[entry.getValue()] != null) keys.add(entry.getKey());
+            }
+            return keys;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return locale;
+        }
+    }
+}
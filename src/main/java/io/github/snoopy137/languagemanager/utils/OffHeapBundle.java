@@ -0,0 +1,136 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * A {@link ResourceBundle} keeping its string values as encoded bytes in a
+ * direct {@link ByteBuffer} instead of as {@code String}s on the heap.
+ * <p>
+ * Values containing only Latin-1 characters are stored with one byte per
+ * character, all others as UTF-8. A value is decoded on lookup, and the most
+ * recently used decoded values are kept in a small LRU cache, so the heap only
+ * holds the strings that are actually being displayed. Keys stay on the heap
+ * and are shared through the {@link StringPool}.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+class OffHeapBundle extends PatchableBundle {
+
+    private final Map<String, Integer> index;
+    private final Map<String, Object> objects;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final BitSet utf8;
+    private final ByteBuffer data;
+    private final Locale locale;
+    private final Map<Integer, String> decoded;
+
+    private OffHeapBundle(Map<String, Integer> index, Map<String, Object> objects, int[] offsets, int[] lengths,
+            BitSet utf8, ByteBuffer data, Locale locale, int cacheSize) {
+        this.index = index;
+        this.objects = objects;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.utf8 = utf8;
+        this.data = data;
+        this.locale = locale;
+        this.decoded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Encodes resolved entries into a single direct buffer.
+     *
+     * @param source the resolved entries
+     * @param locale the locale of the bundle
+     * @param pool the pool used to share the keys
+     * @param cacheSize the maximum number of decoded values to keep
+     * @return the off-heap bundle
+     */
+    static OffHeapBundle of(Map<String, Object> source, Locale locale, StringPool pool, int cacheSize) {
+        Map<String, Integer> index = new HashMap<>(FlatBundle.capacity(source.size()));
+        Map<String, Object> objects = new HashMap<>();
+        byte[][] encoded = new byte[source.size()][];
+        BitSet utf8 = new BitSet();
+        int count = 0;
+        int total = 0;
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof String text) {
+                boolean latin1 = isLatin1(text);
+                byte[] bytes = text.getBytes(latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                if (!latin1) utf8.set(count);
+                encoded[count] = bytes;
+                index.put(pool.intern(key), count++);
+                total += bytes.length;
+            } else {
+                objects.put(pool.intern(key), value);
+            }
+        }
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        ByteBuffer data = ByteBuffer.allocateDirect(total);
+        for (int i = 0; i < count; i++) {
+            offsets[i] = data.position();
+            lengths[i] = encoded[i].length;
+            data.put(encoded[i]);
+        }
+        return new OffHeapBundle(index, objects, offsets, lengths, utf8, data, locale, cacheSize);
+    }
+
+    @Override
+    protected Object resolvedObject(String key) {
+        Integer id = index.get(key);
+        if (id == null) return objects.get(key);
+        synchronized (decoded) {
+            return decoded.computeIfAbsent(id, this::decode);
+        }
+    }
+
+    private String decode(int id) {
+        byte[] bytes = new byte[lengths[id]];
+        data.get(offsets[id], bytes);
+        return new String(bytes, utf8.get(id) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    protected boolean containsResolvedKey(String key) {
+        return index.containsKey(key) || objects.containsKey(key);
+    }
+
+    @Override
+    protected Set<String> resolvedKeySet() {
+        if (objects.isEmpty()) return index.keySet();
+        Set<String> keys = new HashSet<>(index.keySet());
+        keys.addAll(objects.keySet());
+        return keys;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    private static boolean isLatin1(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * Base class of the resident bundles that can take a {@link BundlePatch} in
+ * place.
+ * <p>
+ * Patched entries are kept in a small overlay consulted before the resolved
+ * entries, so a patch costs a copy of the overlay rather than a rebuild of the
+ * bundle, whatever its storage. The overlay is replaced as a whole on every
+ * patch, so concurrent lookups always see either the old or the new state.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+abstract class PatchableBundle extends ResourceBundle {
+
+    private static final Object REMOVED = new Object();
+
+    private volatile Map<String, Object> patched = Map.of();
+    private volatile KeyIndex keyIndex;
+
+    /**
+     * Applies upserts and removals on top of the resolved entries.
+     *
+     * @param upserts the entries to add or replace
+     * @param removals the keys to remove
+     * @param pool the pool used to share the patched keys and values
+     */
+    void patch(Map<String, Object> upserts, Set<String> removals, StringPool pool) {
+        Map<String, Object> next = new HashMap<>(patched);
+        for (String key : removals) {
+            next.put(pool.intern(key), REMOVED);
+        }
+        for (Map.Entry<String, Object> entry : upserts.entrySet()) {
+            Object value = entry.getValue();
+            next.put(pool.intern(entry.getKey()), value instanceof String text ? pool.intern(text) : value);
+        }
+        patched = next;
+        keyIndex = null;
+    }
+
+    /**
+     * Returns the sorted index of the keys of this bundle, building it on the
+     * first call after the bundle is loaded or patched.
+     */
+    KeyIndex keyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            index = KeyIndex.of(handleKeySet());
+            keyIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the resolved value of a key, ignoring patches.
+     */
+    protected abstract Object resolvedObject(String key);
+
+    /**
+     * Returns whether the resolved entries contain a key, ignoring patches.
+     */
+    protected abstract boolean containsResolvedKey(String key);
+
+    /**
+     * Returns the resolved keys, ignoring patches.
+     */
+    protected abstract Set<String> resolvedKeySet();
+
+    @Override
+    protected final Object handleGetObject(String key) {
+        Map<String, Object> overlay = patched;
+        if (!overlay.isEmpty()) {
+            Object value = overlay.get(key);
+            if (value != null) return value == REMOVED ? null : value;
+        }
+        return resolvedObject(key);
+    }
+
+    @Override
+    public final boolean containsKey(String key) {
+        Map<String, Object> overlay = patched;
+        if (!overlay.isEmpty()) {
+            Object value = overlay.get(key);
+            if (value != null) return value != REMOVED;
+        }
+        return containsResolvedKey(key);
+    }
+
+    @Override
+    protected final Set<String> handleKeySet() {
+        Map<String, Object> overlay = patched;
+        if (overlay.isEmpty()) return resolvedKeySet();
+        Set<String> keys = new HashSet<>(resolvedKeySet());
+        overlay.forEach((key, value) -> {
+            if (value == REMOVED) keys.remove(key);
+            else keys.add(key);
+        });
+        return keys;
+    }
+
+    @Override
+    public final Enumeration<String> getKeys() {
+        return Collections.enumeration(handleKeySet());
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Precompiled plural selection rules used by {@link Language#bindPlural}.
+ * <p>
+ * The rules follow the CLDR integer plural categories. They are compiled once
+ * per language into a plain selector function and cached, so selecting the
+ * category for a count is a single rule evaluation without any parsing or
+ * allocation.
+ * </p>
+ *
+ * <p>
+ * Languages without a dedicated rule fall back to the common
+ * {@code one}/{@code other} rule used by English, Spanish, German and most
+ * other Western European languages.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+public final class PluralRules {
+
+    /**
+     * The plural categories a count can fall into. Each category maps to the
+     * key suffix looked up in the resource bundle (e.g. {@code .one},
+     * {@code .few}).
+     */
+    public enum Category {
+        ZERO, ONE, TWO, FEW, MANY, OTHER;
+
+        private final String suffix = "." + name().toLowerCase(Locale.ROOT);
+
+        /**
+         * Returns the key suffix for this category, including the leading dot.
+         *
+         * @return the key suffix, e.g. {@code ".few"}
+         */
+        public String suffix() {
+            return suffix;
+        }
+    }
+
+    private static final Map<String, PluralRules> CACHE = new ConcurrentHashMap<>();
+
+    private final IntFunction<Category> selector;
+
+    private PluralRules(IntFunction<Category> selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Returns the compiled plural rules for the language of the given locale.
+     *
+     * @param locale the locale whose language determines the rules
+     * @return the cached plural rules, never {@code null}
+     */
+    public static PluralRules forLocale(Locale locale) {
+        String language = locale == null ? "" : locale.getLanguage();
+        return CACHE.computeIfAbsent(language, lang -> new PluralRules(compile(lang)));
+    }
+
+    /**
+     * Selects the plural category for the given count.
+     *
+     * @param count the count to evaluate; negative counts are treated as their
+     * absolute value
+     * @return the plural category for the count
+     */
+    public Category select(int count) {
+        return selector.apply(Math.abs(count));
+    }
+
+    /**
+     * Builds the bundle keys for every plural category of the given base key,
+     * indexed by {@link Category#ordinal()}.
+     *
+     * @param key the base key (e.g. {@code items})
+     * @return the full keys (e.g. {@code items.one}, {@code items.few})
+     */
+    static String[] keysFor(String key) {
+        Category[] categories = Category.values();
+        String[] keys = new String[categories.length];
+        for (Category category : categories) {
+            keys[category.ordinal()] = key + category.suffix();
+        }
+        return keys;
+    }
+
+    private static IntFunction<Category> compile(String language) {
+        switch (language) {
+            case "ja", "zh", "ko", "vi", "th", "id", "ms", "lo", "my", "km":
+                return n -> Category.OTHER;
+            case "fr", "pt", "hy", "kab":
+                return n -> n == 0 || n == 1 ? Category.ONE : Category.OTHER;
+            case "ru", "uk", "be":
+                return n -> {
+                    int mod10 = n % 10;
+                    int mod100 = n % 100;
+                    if (mod10 == 1 && mod100 != 11) return Category.ONE;
+                    if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return Category.FEW;
+                    return Category.MANY;
+                };
+            case "hr", "sr", "bs", "sh":
+                return n -> {
+                    int mod10 = n % 10;
+                    int mod100 = n % 100;
+                    if (mod10 == 1 && mod100 != 11) return Category.ONE;
+                    if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return Category.FEW;
+                    return Category.OTHER;
+                };
+            case "pl":
+                return n -> {
+                    if (n == 1) return Category.ONE;
+                    int mod10 = n % 10;
+                    int mod100 = n % 100;
+                    if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return Category.FEW;
+                    return Category.MANY;
+                };
+            case "cs", "sk":
+                return n -> {
+                    if (n == 1) return Category.ONE;
+                    if (n >= 2 && n <= 4) return Category.FEW;
+                    return Category.OTHER;
+                };
+            case "lt":
+                return n -> {
+                    int mod10 = n % 10;
+                    int mod100 = n % 100;
+                    boolean teen = mod100 >= 11 && mod100 <= 19;
+                    if (mod10 == 1 && !teen) return Category.ONE;
+                    if (mod10 >= 2 && !teen) return Category.FEW;
+                    return Category.OTHER;
+                };
+            case "lv":
+                return n -> {
+                    int mod10 = n % 10;
+                    int mod100 = n % 100;
+                    if (mod10 == 0 || (mod100 >= 11 && mod100 <= 19)) return Category.ZERO;
+                    if (mod10 == 1 && mod100 != 11) return Category.ONE;
+                    return Category.OTHER;
+                };
+            case "ro", "mo":
+                return n -> {
+                    if (n == 1) return Category.ONE;
+                    int mod100 = n % 100;
+                    if (n == 0 || (mod100 >= 1 && mod100 <= 19)) return Category.FEW;
+                    return Category.OTHER;
+                };
+            case "sl":
+                return n -> {
+                    int mod100 = n % 100;
+                    if (mod100 == 1) return Category.ONE;
+                    if (mod100 == 2) return Category.TWO;
+                    if (mod100 == 3 || mod100 == 4) return Category.FEW;
+                    return Category.OTHER;
+                };
+            case "he", "iw":
+                return n -> {
+                    if (n == 1) return Category.ONE;
+                    if (n == 2) return Category.TWO;
+                    return Category.OTHER;
+                };
+            case "ga":
+                return n -> {
+                    if (n == 1) return Category.ONE;
+                    if (n == 2) return Category.TWO;
+                    if (n >= 3 && n <= 6) return Category.FEW;
+                    if (n >= 7 && n <= 10) return Category.MANY;
+                    return Category.OTHER;
+                };
+            case "ar":
+                return n -> {
+                    if (n == 0) return Category.ZERO;
+                    if (n == 1) return Category.ONE;
+                    if (n == 2) return Category.TWO;
+                    int mod100 = n % 100;
+                    if (mod100 >= 3 && mod100 <= 10) return Category.FEW;
+                    if (mod100 >= 11) return Category.MANY;
+                    return Category.OTHER;
+                };
+            case "cy":
+                return n -> switch (n) {
+                    case 0 -> Category.ZERO;
+                    case 1 -> Category.ONE;
+                    case 2 -> Category.TWO;
+                    case 3 -> Category.FEW;
+                    case 6 -> Category.MANY;
+                    default -> Category.OTHER;
+                };
+            default:
+                return n -> n == 1 ? Category.ONE : Category.OTHER;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.regex.Pattern;
+
+/**
+ * An index over the translated values of one bundle, answering substring
+ * queries with the keys whose value contains the query.
+ * <p>
+ * Values are normalized once when the index is built: lower-cased and with
+ * accents removed, so {@code "medico"} matches {@code "Médico"}. Every
+ * trigram of a normalized value, and the first one or two letters of every
+ * word, is mapped to a sorted list of key ids. A query of three or more
+ * characters intersects the lists of its trigrams and verifies the few
+ * remaining candidates; shorter queries match the start of a word.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class SearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int[] NONE = new int[0];
+
+    private final String[] keys;
+    private final String[] values;
+    private final Map<String, int[]> postings;
+
+    private SearchIndex(String[] keys, String[] values, Map<String, int[]> postings) {
+        this.keys = keys;
+        this.values = values;
+        this.postings = postings;
+    }
+
+    /**
+     * Builds the index of the string values of a bundle. Reserved keys
+     * starting with {@code @} are skipped.
+     *
+     * @param bundle the bundle to index
+     * @return the index
+     */
+    static SearchIndex build(ResourceBundle bundle) {
+        List<String> sortedKeys = new ArrayList<>();
+        for (String key : bundle.keySet()) {
+            if (!key.startsWith("@") && bundle.getObject(key) instanceof String) sortedKeys.add(key);
+        }
+        sortedKeys.sort(null);
+        String[] keys = sortedKeys.toArray(String[]::new);
+        String[] values = new String[keys.length];
+        Map<String, IdList> grams = new HashMap<>();
+        for (int id = 0; id < keys.length; id++) {
+            String value = normalize(bundle.getString(keys[id]));
+            values[id] = value;
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                add(grams, value.substring(i, i + 3), id);
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (!Character.isLetterOrDigit(value.charAt(i)) || (i > 0 && Character.isLetterOrDigit(value.charAt(i - 1)))) {
+                    continue;
+                }
+                // Word prefixes are keyed with a leading space. A value trigram starting with a
+                // space also marks a word start, so sharing its key keeps candidates a superset
+                add(grams, " " + value.charAt(i), id);
+                if (i + 1 < value.length()) add(grams, " " + value.substring(i, i + 2), id);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(FlatBundle.capacity(grams.size()));
+        grams.forEach((gram, ids) -> postings.put(gram, ids.toArray()));
+        return new SearchIndex(keys, values, postings);
+    }
+
+    /**
+     * Returns the keys whose value contains the query, ignoring case and
+     * accents, in key order.
+     *
+     * @param query the search text
+     * @return the matching keys
+     */
+    List<String> search(String query) {
+        String normalized = normalize(query).strip();
+        if (normalized.isEmpty()) return List.of();
+        if (normalized.length() < 3) {
+            int[] ids = postings.getOrDefault(" " + normalized, NONE);
+            List<String> result = new ArrayList<>(ids.length);
+            for (int id : ids) result.add(keys[id]);
+            return result;
+        }
+        int[] candidates = null;
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            int[] ids = postings.getOrDefault(normalized.substring(i, i + 3), NONE);
+            candidates = candidates == null ? ids : intersect(candidates, ids);
+            if (candidates.length == 0) return List.of();
+        }
+        List<String> result = new ArrayList<>(candidates.length);
+        for (int id : candidates) {
+            if (values[id].contains(normalized)) result.add(keys[id]);
+        }
+        return result;
+    }
+
+    /**
+     * Lower-cases a text and strips its accents.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static void add(Map<String, IdList> grams, String gram, int id) {
+        grams.computeIfAbsent(gram, g -> new IdList()).add(id);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * A growable list of ascending ids, ignoring repeats of the last id.
+     */
+    private static final class IdList {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
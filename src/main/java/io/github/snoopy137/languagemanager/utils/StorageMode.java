@@ -0,0 +1,27 @@
+package io.github.snoopy137.languagemanager.utils;
+
+/**
+ * Defines how {@link Language} stores the values of the bundles it keeps
+ * resident.
+ *
+ * @author alan
+ * @since 1.2.0
+ * @see Language#setStorageMode(StorageMode)
+ */
+public enum StorageMode {
+
+    /**
+     * Values are kept as deduplicated {@code String}s on the heap. This is the
+     * default and gives the fastest lookups.
+     */
+    HEAP,
+    /**
+     * Values are kept as Latin-1 or UTF-8 bytes in direct (off-heap) buffers
+     * and decoded on demand, with a small cache of recently used strings. This
+     * keeps large numbers of preloaded locales out of the old generation, at
+     * the cost of decoding values that are not in the cache. The locales of a
+     * {@linkplain Language#loadLocaleTable(java.util.Locale...) locale table}
+     * stay on the heap.
+     */
+    OFF_HEAP
+}
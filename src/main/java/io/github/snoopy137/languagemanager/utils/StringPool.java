@@ -0,0 +1,107 @@
+package io.github.snoopy137.languagemanager.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared pool used to deduplicate the keys and values of the bundles kept
+ * resident by {@link Language}.
+ * <p>
+ * Keys are identical across locales and many values repeat between regional
+ * variants (e.g. {@code es}, {@code es_AR} and {@code es_MX}), so every
+ * flattened bundle draws its strings from this pool instead of holding its
+ * own copies. The pool keeps a running estimate of the heap bytes saved by
+ * returning an existing instance instead of keeping a duplicate.
+ * </p>
+ * <p>
+ * Strings are only weakly held, so those of dropped bundles and of replaced
+ * patch values leave the pool once no resident bundle references them.
+ * </p>
+ *
+ * @author alan
+ * @since 1.2.0
+ */
+final class StringPool {
+
+    private final Map<String, WeakReference<String>> pool = new WeakHashMap<>();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Returns the pooled instance equal to the given string, adding it to the
+     * pool if it is not present yet.
+     *
+     * @param value the string to deduplicate, may be {@code null}
+     * @return the canonical instance, or {@code null} if {@code value} is null
+     */
+    String intern(String value) {
+        if (value == null) return null;
+        String pooled;
+        synchronized (pool) {
+            WeakReference<String> ref = pool.get(value);
+            pooled = ref != null ? ref.get() : null;
+            if (pooled == null) {
+                pool.put(value, new WeakReference<>(value));
+                return value;
+            }
+        }
+        if (pooled != value) {
+            bytesSaved.addAndGet(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the estimated number of heap bytes saved so far.
+     */
+    long bytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool.
+     */
+    int size() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+
+    /**
+     * Resets the saved bytes counter, e.g. when the bundles the savings were
+     * counted for are dropped.
+     */
+    void resetSavings() {
+        bytesSaved.set(0);
+    }
+
+    /**
+     * Empties the pool and resets the saved bytes counter.
+     */
+    void clear() {
+        synchronized (pool) {
+            pool.clear();
+        }
+        resetSavings();
+    }
+
+    /**
+     * Estimates the retained size of a compact string: the String object
+     * itself plus its backing byte array, both aligned to 8 bytes.
+     */
+    static long estimateSize(String value) {
+        int bytes = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytes = value.length() * 2;
+                break;
+            }
+        }
+        return 24 + align(16 + bytes);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}